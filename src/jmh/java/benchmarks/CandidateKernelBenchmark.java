@@ -0,0 +1,65 @@
+package benchmarks;
+
+import algorithms.MajorityKernels;
+import cli.BenchmarkRunner;
+import cli.BenchmarkRunner.InputType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Candidate pass only: the branchy sequential kernel against the branch-free lane kernel,
+ * per InputType. The size at which {@link MajorityKernels#voteAuto} switches kernels comes
+ * from this benchmark.
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar CandidateKernelBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g"})
+@State(Scope.Benchmark)
+public class CandidateKernelBenchmark {
+
+    @Param
+    public InputType inputType;
+
+    @Param({"16", "256", "4096", "100000", "10000000"})
+    public int size;
+
+    private int[] input;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = BenchmarkRunner.generateInput(size, inputType);
+    }
+
+    @Benchmark
+    public long branchy() {
+        return MajorityKernels.vote(input, 0, input.length);
+    }
+
+    @Benchmark
+    public long branchless() {
+        return MajorityKernels.voteBranchless(input, 0, input.length);
+    }
+
+    @Benchmark
+    public long auto() {
+        return MajorityKernels.voteAuto(input, 0, input.length);
+    }
+}
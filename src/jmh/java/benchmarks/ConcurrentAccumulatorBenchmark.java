@@ -0,0 +1,106 @@
+package benchmarks;
+
+import algorithms.ConcurrentMajorityAccumulator;
+import algorithms.MajorityAccumulator;
+import cli.BenchmarkRunner;
+import cli.BenchmarkRunner.InputType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Producer contention: the striped lock-free accumulator against one MajorityAccumulator
+ * behind a lock, from 1 to all available producer threads. Each operation publishes one
+ * slice of {@code sliceLength} elements ({@code 1} means per-element adds).
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar ConcurrentAccumulatorBenchmark -rf json
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(3)
+@State(Scope.Benchmark)
+public class ConcurrentAccumulatorBenchmark {
+
+    private static final int INPUT_SIZE = 1 << 16;
+
+    @Param({"1", "64", "1024"})
+    public int sliceLength;
+
+    private int[] input;
+    private ConcurrentMajorityAccumulator striped;
+    private MajorityAccumulator locked;
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        int offset;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = BenchmarkRunner.generateInput(INPUT_SIZE, InputType.RANDOM_WITH_MAJORITY);
+        striped = new ConcurrentMajorityAccumulator();
+        locked = new MajorityAccumulator();
+    }
+
+    private int next(Cursor cursor) {
+        int offset = cursor.offset;
+        cursor.offset = offset + sliceLength >= INPUT_SIZE ? 0 : offset + sliceLength;
+        return offset;
+    }
+
+    private void addStriped(Cursor cursor) {
+        int offset = next(cursor);
+        if (sliceLength == 1) {
+            striped.add(input[offset]);
+        } else {
+            striped.add(input, offset, sliceLength);
+        }
+    }
+
+    private void addLocked(Cursor cursor) {
+        int offset = next(cursor);
+        synchronized (locked) {
+            locked.add(input, offset, sliceLength);
+        }
+    }
+
+    @Benchmark @Threads(1)
+    public void striped01(Cursor cursor) { addStriped(cursor); }
+
+    @Benchmark @Threads(2)
+    public void striped02(Cursor cursor) { addStriped(cursor); }
+
+    @Benchmark @Threads(4)
+    public void striped04(Cursor cursor) { addStriped(cursor); }
+
+    @Benchmark @Threads(Threads.MAX)
+    public void stripedMax(Cursor cursor) { addStriped(cursor); }
+
+    @Benchmark @Threads(1)
+    public void locked01(Cursor cursor) { addLocked(cursor); }
+
+    @Benchmark @Threads(2)
+    public void locked02(Cursor cursor) { addLocked(cursor); }
+
+    @Benchmark @Threads(4)
+    public void locked04(Cursor cursor) { addLocked(cursor); }
+
+    @Benchmark @Threads(Threads.MAX)
+    public void lockedMax(Cursor cursor) { addLocked(cursor); }
+}
@@ -0,0 +1,79 @@
+package benchmarks;
+
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.MutableMajorityResult;
+import algorithms.ParallelBoyerMooreMajorityVote;
+import cli.BenchmarkRunner;
+import cli.BenchmarkRunner.InputType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Input is generated once per trial, outside the measured region, and every mode reuses
+ * its algorithm instance, so only the majority search itself is timed.
+ *
+ * <pre>
+ * mvn -Pjmh package
+ * java -jar target/benchmarks.jar MajorityVoteBenchmark -rf json -rff docs/performance-plots/jmh-results.json
+ * java -jar target/benchmarks.jar MajorityVoteBenchmark -p size=1000000 -p inputType=NO_MAJORITY
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 3, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+@State(Scope.Benchmark)
+public class MajorityVoteBenchmark {
+
+    @Param
+    public InputType inputType;
+
+    @Param({"1000", "100000", "10000000", "100000000"})
+    public int size;
+
+    private int[] input;
+    private BoyerMooreMajorityVote instrumented;
+    private BoyerMooreMajorityVote uninstrumented;
+    private ParallelBoyerMooreMajorityVote parallel;
+    private MutableMajorityResult holder;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = BenchmarkRunner.generateInput(size, inputType);
+        instrumented = new BoyerMooreMajorityVote();
+        uninstrumented = BoyerMooreMajorityVote.uninstrumented();
+        parallel = new ParallelBoyerMooreMajorityVote();
+        holder = new MutableMajorityResult();
+    }
+
+    @Benchmark
+    public MutableMajorityResult instrumented() {
+        instrumented.findMajority(input, holder);
+        return holder;
+    }
+
+    @Benchmark
+    public MutableMajorityResult uninstrumented() {
+        uninstrumented.findMajority(input, holder);
+        return holder;
+    }
+
+    @Benchmark
+    public Optional<BoyerMooreMajorityVote.MajorityResult> parallel() {
+        return parallel.findMajority(input);
+    }
+}
@@ -0,0 +1,218 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+import metrics.ConcurrentPerformanceTracker;
+import metrics.PerformanceTracker;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * Runs the uninstrumented kernels over many arrays at once. Consecutive inputs are grouped
+ * into tasks of roughly {@code groupElements} elements, so thousands of tiny arrays cost a
+ * handful of task submissions rather than one each. Results come back in input order, with
+ * positions relative to each slice.
+ *
+ * <p>The default executor uses virtual threads when the runtime has them (Java 21+) and
+ * falls back to the common fork-join pool otherwise.
+ */
+public class BatchMajorityVote implements AutoCloseable {
+
+    public static final int DEFAULT_GROUP_ELEMENTS = 1 << 15;
+
+    private final ExecutorService executor;
+    private final boolean ownsExecutor;
+    private final int groupElements;
+    private final PerformanceTracker tracker;
+    private final ConcurrentPerformanceTracker arrayTracker;
+
+
+    public static class BatchResult {
+        private final List<Optional<MajorityResult>> results;
+        private final long totalElements;
+        private final int majoritiesFound;
+        private final int tasks;
+        private final long executionTime;
+
+        BatchResult(List<Optional<MajorityResult>> results, long totalElements,
+                    int majoritiesFound, int tasks, long executionTime) {
+            this.results = Collections.unmodifiableList(results);
+            this.totalElements = totalElements;
+            this.majoritiesFound = majoritiesFound;
+            this.tasks = tasks;
+            this.executionTime = executionTime;
+        }
+
+        public List<Optional<MajorityResult>> getResults() { return results; }
+        public Optional<MajorityResult> get(int index) { return results.get(index); }
+        public int size() { return results.size(); }
+        public long getTotalElements() { return totalElements; }
+        public int getMajoritiesFound() { return majoritiesFound; }
+        public int getTasks() { return tasks; }
+        public long getExecutionTime() { return executionTime; }
+
+        @Override
+        public String toString() {
+            return String.format("Batch: %d arrays, %d elements, %d majorities, %d tasks, time=%dns",
+                    results.size(), totalElements, majoritiesFound, tasks, executionTime);
+        }
+    }
+
+    public BatchMajorityVote() {
+        this(createDefaultExecutor(), true, DEFAULT_GROUP_ELEMENTS, new PerformanceTracker(), null);
+    }
+
+    // The caller keeps ownership of 'executor'; close() will not shut it down.
+    public BatchMajorityVote(ExecutorService executor, int groupElements) {
+        this(executor, false, groupElements, new PerformanceTracker(), null);
+    }
+
+    /**
+     * @param arrayTracker receives, from the worker threads, one latency sample and the
+     *                     counters of every array in every batch
+     */
+    public BatchMajorityVote(ExecutorService executor, int groupElements, ConcurrentPerformanceTracker arrayTracker) {
+        this(executor, false, groupElements, new PerformanceTracker(), arrayTracker);
+    }
+
+    private BatchMajorityVote(ExecutorService executor, boolean ownsExecutor, int groupElements,
+                              PerformanceTracker tracker, ConcurrentPerformanceTracker arrayTracker) {
+        if (executor == null) {
+            throw new IllegalArgumentException("Executor cannot be null");
+        }
+        if (groupElements < 1) {
+            throw new IllegalArgumentException("Group size must be positive");
+        }
+        this.executor = executor;
+        this.ownsExecutor = ownsExecutor;
+        this.groupElements = groupElements;
+        this.tracker = tracker;
+        this.arrayTracker = arrayTracker;
+    }
+
+    private static ExecutorService createDefaultExecutor() {
+        try {
+            Method factory = java.util.concurrent.Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+
+    public BatchResult findMajorities(int[][] arrays) {
+        if (arrays == null) {
+            throw new IllegalArgumentException("Arrays cannot be null");
+        }
+        List<IntSlice> slices = new ArrayList<>(arrays.length);
+        for (int[] arr : arrays) {
+            slices.add(IntSlice.of(arr));
+        }
+        return findMajorities(slices);
+    }
+
+    public BatchResult findMajorities(List<IntSlice> slices) {
+        if (slices == null) {
+            throw new IllegalArgumentException("Slices cannot be null");
+        }
+        for (int i = 0; i < slices.size(); i++) {
+            if (slices.get(i) == null) {
+                throw new IllegalArgumentException("Slice " + i + " cannot be null");
+            }
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = slices.size();
+        MajorityResult[] found = new MajorityResult[n];
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        long totalElements = 0;
+
+        int groupStart = 0;
+        long groupSize = 0;
+        for (int i = 0; i < n; i++) {
+            IntSlice slice = slices.get(i);
+            totalElements += slice.getLength();
+            groupSize += slice.getLength();
+
+            if (groupSize >= groupElements || i == n - 1) {
+                int from = groupStart;
+                int to = i + 1;
+                tasks.add(CompletableFuture.runAsync(() -> solveGroup(slices, from, to, found), executor));
+                groupStart = to;
+                groupSize = 0;
+            }
+        }
+
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+
+        List<Optional<MajorityResult>> results = new ArrayList<>(n);
+        int majorities = 0;
+        for (MajorityResult result : found) {
+            results.add(Optional.ofNullable(result));
+            if (result != null) {
+                majorities++;
+            }
+        }
+
+        tracker.incrementArrayAccesses(2 * totalElements);
+        tracker.incrementComparisons(2 * totalElements + n);
+        tracker.stopTimer();
+
+        return new BatchResult(results, totalElements, majorities, tasks.size(), tracker.getExecutionTime());
+    }
+
+    private void solveGroup(List<IntSlice> slices, int from, int to, MajorityResult[] found) {
+        for (int i = from; i < to; i++) {
+            IntSlice slice = slices.get(i);
+            int length = slice.getLength();
+            if (length == 0) {
+                continue;
+            }
+            long start = arrayTracker != null ? System.nanoTime() : 0;
+
+            int[] arr = slice.getArray();
+            int offset = slice.getOffset();
+            int end = offset + length;
+            int candidate = MajorityKernels.voteCandidate(MajorityKernels.voteAuto(arr, offset, end));
+            int count = MajorityKernels.countOccurrences(arr, offset, end, candidate);
+            if (count > length / 2) {
+                found[i] = new MajorityResult(candidate, count,
+                        MajorityKernels.indexOf(arr, offset, end, candidate) - offset,
+                        MajorityKernels.lastIndexOf(arr, offset, end, candidate) - offset);
+            }
+
+            if (arrayTracker != null) {
+                arrayTracker.recordLatency(System.nanoTime() - start);
+                arrayTracker.incrementArrayAccesses(2L * length);
+                arrayTracker.incrementComparisons(2L * length + 1);
+            }
+        }
+    }
+
+    public int getGroupElements() {
+        return groupElements;
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+
+    // Null unless supplied at construction.
+    public ConcurrentPerformanceTracker getArrayTracker() {
+        return arrayTracker;
+    }
+
+    @Override
+    public void close() {
+        if (ownsExecutor && executor != ForkJoinPool.commonPool()) {
+            executor.shutdown();
+        }
+    }
+}
@@ -1,75 +1,180 @@
 package algorithms;
 
+import metrics.MajorityPhaseEvent;
+import metrics.MajorityVoteEvent;
 import metrics.PerformanceTracker;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 
 public class BoyerMooreMajorityVote {
 
     private final PerformanceTracker tracker;
-
-
+    private final boolean instrumented;
+    private final VoteKernels kernels;
+    private final MutableMajorityResult scratch = new MutableMajorityResult();
+
+
+    /**
+     * A verified majority element. {@code element} and {@code firstPosition} are always exact.
+     * When {@link #isExact()} is false (early-exit verification), {@code count} is the number
+     * of occurrences seen when the majority was confirmed, i.e. exactly n/2 + 1, and
+     * {@code lastPosition} is the position of that confirming occurrence; both are lower
+     * bounds of the true values. {@link #completeResult(int[], MajorityResult)} makes them exact.
+     */
     public static class MajorityResult {
         private final int element;
         private final int count;
         private final int firstPosition;
         private final int lastPosition;
+        private final boolean exact;
 
         public MajorityResult(int element, int count, int firstPos, int lastPos) {
+            this(element, count, firstPos, lastPos, true);
+        }
+
+        public MajorityResult(int element, int count, int firstPos, int lastPos, boolean exact) {
             this.element = element;
             this.count = count;
             this.firstPosition = firstPos;
             this.lastPosition = lastPos;
+            this.exact = exact;
         }
 
         public int getElement() { return element; }
         public int getCount() { return count; }
         public int getFirstPosition() { return firstPosition; }
         public int getLastPosition() { return lastPosition; }
+        public boolean isExact() { return exact; }
 
         @Override
         public String toString() {
-            return String.format("Majority: %d (count=%d, first@%d, last@%d)",
-                    element, count, firstPosition, lastPosition);
+            return String.format("Majority: %d (count=%s%d, first@%d, last@%s%d)",
+                    element, exact ? "" : ">=", count, firstPosition, exact ? "" : ">=", lastPosition);
         }
     }
 
     public BoyerMooreMajorityVote() {
-        this.tracker = new PerformanceTracker();
+        this(new PerformanceTracker());
     }
 
     public BoyerMooreMajorityVote(PerformanceTracker tracker) {
+        this(tracker, true);
+    }
+
+    /**
+     * @param instrumented when false, the passes run on {@link MajorityKernels} and only
+     *                     the execution time is recorded; comparisons and array accesses stay 0
+     */
+    public BoyerMooreMajorityVote(PerformanceTracker tracker, boolean instrumented) {
+        this(tracker, instrumented, MajorityKernels.SCALAR);
+    }
+
+    /**
+     * @param kernels candidate and count passes of the uninstrumented int[] path
+     */
+    public BoyerMooreMajorityVote(PerformanceTracker tracker, boolean instrumented, VoteKernels kernels) {
+        if (kernels == null) {
+            throw new IllegalArgumentException("Kernels cannot be null");
+        }
         this.tracker = tracker;
+        this.instrumented = instrumented;
+        this.kernels = kernels;
+    }
+
+    // Also skips the allocation/GC probes so only the timer brackets the kernels.
+    // Uses the kernels named by -Dmajority.kernels (scalar or vector).
+    public static BoyerMooreMajorityVote uninstrumented() {
+        return uninstrumented(MajorityKernels.configured());
+    }
+
+    public static BoyerMooreMajorityVote uninstrumented(VoteKernels kernels) {
+        PerformanceTracker tracker = new PerformanceTracker();
+        tracker.setAllocationTracking(false);
+        return new BoyerMooreMajorityVote(tracker, false, kernels);
     }
 
     public Optional<MajorityResult> findMajority(int[] arr) {
+        MutableMajorityResult out = new MutableMajorityResult();
+        if (findMajority(arr, out)) {
+            return Optional.of(out.toMajorityResult());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Allocation-free variant: writes the result into the caller's holder.
+     *
+     * @return true if a majority element exists (same as {@code out.isPresent()})
+     */
+    public boolean findMajority(int[] arr, MutableMajorityResult out) {
         // Input validation
         if (arr == null) {
             throw new IllegalArgumentException("Array cannot be null");
         }
+        if (out == null) {
+            throw new IllegalArgumentException("Result holder cannot be null");
+        }
 
+        MajorityVoteEvent event = MajorityVoteEvent.beginIfEnabled();
+        out.clear();
         tracker.reset();
         tracker.startTimer();
 
         if (arr.length == 0) {
             tracker.stopTimer();
-            return Optional.empty();
-        }
-
-
-        if (arr.length == 1) {
+        } else if (!instrumented) {
+            findMajorityUninstrumented(arr, out);
+            tracker.stopTimer();
+        } else if (arr.length == 1) {
             tracker.incrementComparisons(0);
             tracker.incrementArrayAccesses(1);
             tracker.stopTimer();
-            return Optional.of(new MajorityResult(arr[0], 1, 0, 0));
+            out.set(arr[0], 1, 0, 0);
+        } else {
+            MajorityPhaseEvent phase = MajorityPhaseEvent.beginIfEnabled();
+            int candidate = findCandidate(arr);
+            if (phase != null) {
+                phase.complete(MajorityPhaseEvent.CANDIDATE, mode(), arr.length, candidate);
+                phase = MajorityPhaseEvent.beginIfEnabled();
+            }
+            verifyAndTrackCandidate(arr, candidate, out);
+            if (phase != null) {
+                phase.complete(MajorityPhaseEvent.VERIFICATION, mode(), arr.length, candidate);
+            }
+            tracker.stopTimer();
         }
 
+        if (event != null) {
+            event.complete(arr.length, mode(), out.isPresent(), out.getElement(), out.getCount(), tracker);
+        }
+        return out.isPresent();
+    }
 
-        int candidate = findCandidate(arr);
-        Optional<MajorityResult> result = verifyAndTrackCandidate(arr, candidate);
+    private String mode() {
+        return instrumented ? "instrumented" : "uninstrumented";
+    }
 
-        tracker.stopTimer();
-        return result;
+
+    private void findMajorityUninstrumented(int[] arr, MutableMajorityResult out) {
+        MajorityPhaseEvent phase = MajorityPhaseEvent.beginIfEnabled();
+        int candidate = MajorityKernels.voteCandidate(kernels.vote(arr, 0, arr.length));
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.CANDIDATE, mode(), arr.length, candidate);
+            phase = MajorityPhaseEvent.beginIfEnabled();
+        }
+        int count = kernels.countOccurrences(arr, 0, arr.length, candidate);
+
+        if (count > arr.length / 2) {
+            out.set(candidate, count,
+                    MajorityKernels.indexOf(arr, 0, arr.length, candidate),
+                    MajorityKernels.lastIndexOf(arr, 0, arr.length, candidate));
+        }
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.VERIFICATION, mode(), arr.length, candidate);
+        }
     }
 
 
@@ -100,7 +205,7 @@ public class BoyerMooreMajorityVote {
     }
 
 
-    private Optional<MajorityResult> verifyAndTrackCandidate(int[] arr, int candidate) {
+    private void verifyAndTrackCandidate(int[] arr, int candidate, MutableMajorityResult out) {
         int count = 0;
         int firstPos = -1;
         int lastPos = -1;
@@ -121,27 +226,250 @@ public class BoyerMooreMajorityVote {
         tracker.incrementComparisons(1); // count > arr.length / 2
 
         if (count > arr.length / 2) {
-            return Optional.of(new MajorityResult(candidate, count, firstPos, lastPos));
+            out.set(candidate, count, firstPos, lastPos);
+        }
+    }
+
+    /**
+     * Buffer input, heap or direct, without copying into an {@code int[]}. The elements are
+     * {@code [position, limit)}; reported positions are relative to {@code position}, and
+     * neither position nor limit is changed. Array-backed buffers run the configured kernels on
+     * the backing array; others use absolute gets. Counters are recorded in bulk (2n accesses,
+     * 2n + 1 comparisons).
+     */
+    public Optional<MajorityResult> findMajority(IntBuffer buf) {
+        MutableMajorityResult out = new MutableMajorityResult();
+        if (findMajority(buf, out)) {
+            return Optional.of(out.toMajorityResult());
+        }
+        return Optional.empty();
+    }
+
+    public boolean findMajority(IntBuffer buf, MutableMajorityResult out) {
+        if (buf == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Result holder cannot be null");
+        }
+
+        MajorityVoteEvent event = MajorityVoteEvent.beginIfEnabled();
+        out.clear();
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = buf.remaining();
+        if (n > 0) {
+            if (buf.hasArray()) {
+                findMajorityInArray(buf.array(), buf.arrayOffset() + buf.position(), n, out);
+            } else {
+                findMajorityInBuffer(buf, buf.position(), n, out);
+            }
+            if (instrumented) {
+                tracker.incrementArrayAccesses(2L * n);
+                tracker.incrementComparisons(2L * n + 1);
+            }
+        }
+
+        tracker.stopTimer();
+        if (event != null) {
+            event.complete(n, "buffer", out.isPresent(), out.getElement(), out.getCount(), tracker);
+        }
+        return out.isPresent();
+    }
+
+    /**
+     * int32 values in {@code [position, limit)} of {@code buf}, decoded in the buffer's own
+     * {@link ByteBuffer#order() byte order}. Positions are element indices relative to
+     * {@code position}. Creates one int view of the buffer per call.
+     *
+     * @throws IllegalArgumentException if the remaining bytes are not a multiple of 4
+     */
+    public Optional<MajorityResult> findMajority(ByteBuffer buf) {
+        return findMajority(asIntView(buf));
+    }
+
+    public boolean findMajority(ByteBuffer buf, MutableMajorityResult out) {
+        return findMajority(asIntView(buf), out);
+    }
+
+    private static IntBuffer asIntView(ByteBuffer buf) {
+        if (buf == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        if (buf.remaining() % Integer.BYTES != 0) {
+            throw new IllegalArgumentException("Buffer length must be a multiple of 4 bytes");
         }
+        return buf.asIntBuffer();
+    }
+
+    // Positions are written relative to offset. Runs on the configured kernels, like the int[] path.
+    private void findMajorityInArray(int[] arr, int offset, int n, MutableMajorityResult out) {
+        int end = offset + n;
+        MajorityPhaseEvent phase = MajorityPhaseEvent.beginIfEnabled();
+        int candidate = MajorityKernels.voteCandidate(kernels.vote(arr, offset, end));
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.CANDIDATE, "buffer", n, candidate);
+            phase = MajorityPhaseEvent.beginIfEnabled();
+        }
+        int count = kernels.countOccurrences(arr, offset, end, candidate);
 
+        if (count > n / 2) {
+            out.set(candidate, count,
+                    MajorityKernels.indexOf(arr, offset, end, candidate) - offset,
+                    MajorityKernels.lastIndexOf(arr, offset, end, candidate) - offset);
+        }
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.VERIFICATION, "buffer", n, candidate);
+        }
+    }
+
+    private static void findMajorityInBuffer(IntBuffer buf, int offset, int n, MutableMajorityResult out) {
+        int end = offset + n;
+        MajorityPhaseEvent phase = MajorityPhaseEvent.beginIfEnabled();
+        int candidate = MajorityKernels.voteCandidate(MajorityKernels.vote(buf, offset, end));
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.CANDIDATE, "buffer", n, candidate);
+            phase = MajorityPhaseEvent.beginIfEnabled();
+        }
+        int count = MajorityKernels.countOccurrences(buf, offset, end, candidate);
+
+        if (count > n / 2) {
+            out.set(candidate, count,
+                    MajorityKernels.indexOf(buf, offset, end, candidate) - offset,
+                    MajorityKernels.lastIndexOf(buf, offset, end, candidate) - offset);
+        }
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.VERIFICATION, "buffer", n, candidate);
+        }
+    }
+
+    public Optional<MajorityResult> findMajorityEarlyExit(int[] arr) {
+        MutableMajorityResult out = new MutableMajorityResult();
+        if (findMajorityEarlyExit(arr, out)) {
+            return Optional.of(out.toMajorityResult());
+        }
         return Optional.empty();
     }
 
+    /**
+     * Like {@link #findMajority(int[], MutableMajorityResult)}, but the verification pass stops
+     * as soon as the candidate reaches n/2 + 1 occurrences (confirmed) or can no longer reach it
+     * (rejected). A confirmed result is inexact unless the scan happened to reach the end; see
+     * {@link MajorityResult} for which fields are then lower bounds.
+     */
+    public boolean findMajorityEarlyExit(int[] arr, MutableMajorityResult out) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        if (out == null) {
+            throw new IllegalArgumentException("Result holder cannot be null");
+        }
+
+        MajorityVoteEvent event = MajorityVoteEvent.beginIfEnabled();
+        out.clear();
+        tracker.reset();
+        tracker.startTimer();
+
+        if (arr.length == 0) {
+            tracker.stopTimer();
+            if (event != null) {
+                event.complete(0, "early-exit", false, 0, 0, tracker);
+            }
+            return false;
+        }
+
+        MajorityPhaseEvent phase = MajorityPhaseEvent.beginIfEnabled();
+        int candidate = instrumented
+                ? findCandidate(arr)
+                : MajorityKernels.voteCandidate(kernels.vote(arr, 0, arr.length));
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.CANDIDATE, "early-exit", arr.length, candidate);
+            phase = MajorityPhaseEvent.beginIfEnabled();
+        }
+
+        int n = arr.length;
+        int needed = n / 2 + 1;
+        int count = 0;
+        int firstPos = -1;
+        int i = 0;
+        for (; i < n; i++) {
+            if (arr[i] == candidate) {
+                if (count == 0) {
+                    firstPos = i;
+                }
+                if (++count == needed) {
+                    break;
+                }
+            } else if (count + (n - 1 - i) < needed) {
+                break;
+            }
+        }
+
+        int scanned = Math.min(i + 1, n);
+        if (instrumented) {
+            tracker.incrementArrayAccesses(scanned);
+            tracker.incrementComparisons(2L * scanned);
+        }
+
+        if (count == needed) {
+            boolean exact = i == n - 1;
+            out.set(candidate, count, firstPos, i, exact);
+        }
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.VERIFICATION, "early-exit", n, candidate);
+        }
+
+        tracker.stopTimer();
+        if (event != null) {
+            event.complete(n, "early-exit", out.isPresent(), candidate, count, tracker);
+        }
+        return out.isPresent();
+    }
+
+    /**
+     * Turns an early-exit result into an exact one by scanning only the elements after its
+     * confirming position. Exact results are returned unchanged.
+     */
+    public static MajorityResult completeResult(int[] arr, MajorityResult partial) {
+        if (partial.isExact()) {
+            return partial;
+        }
+        int element = partial.getElement();
+        int from = partial.getLastPosition() + 1;
+        int extra = MajorityKernels.countOccurrences(arr, from, arr.length, element);
+        int lastPos = extra == 0
+                ? partial.getLastPosition()
+                : MajorityKernels.lastIndexOf(arr, from, arr.length, element);
+        return new MajorityResult(element, partial.getCount() + extra,
+                partial.getFirstPosition(), lastPos);
+    }
+
     public Optional<Integer> findMajorityElement(int[] arr) {
         Optional<MajorityResult> result = findMajority(arr);
         return result.map(MajorityResult::getElement);
     }
 
+    // Unboxed variant of findMajorityElement; use the MutableMajorityResult overload for zero allocation.
+    public OptionalInt findMajorityElementAsInt(int[] arr) {
+        return findMajority(arr, scratch) ? OptionalInt.of(scratch.getElement()) : OptionalInt.empty();
+    }
+
 
     public PerformanceTracker getTracker() {
         return tracker;
     }
 
+    public boolean isInstrumented() {
+        return instrumented;
+    }
+
     public void printStatistics() {
         System.out.println("\n=== Boyer-Moore Majority Vote Statistics ===");
         System.out.println("Execution Time: " + tracker.getExecutionTime() + " ns");
         System.out.println("Array Accesses: " + tracker.getArrayAccesses());
         System.out.println("Comparisons: " + tracker.getComparisons());
+        System.out.println("Memory Allocated: " + tracker.getMemoryAllocations() + " bytes");
         System.out.println("Theoretical Complexity: Θ(n)");
         System.out.println("Space Complexity: Θ(1)");
     }
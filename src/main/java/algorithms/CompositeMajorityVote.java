@@ -0,0 +1,202 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import java.util.Arrays;
+import java.util.Optional;
+
+
+/**
+ * Boyer-Moore over multi-field keys given as parallel {@code int[]} columns: row i is the tuple
+ * (columns[0][i], ..., columns[k-1][i]). Tuples are compared exactly, never hashed, so
+ * distinct keys cannot collide.
+ *
+ * <p>Two columns are packed into one {@code long} per row on the fly, so both passes run on
+ * primitives without allocating. Any other column count keeps the candidate as a row index
+ * and compares rows column by column.
+ */
+public class CompositeMajorityVote {
+
+    private final PerformanceTracker tracker;
+
+
+    /**
+     * A verified majority tuple, with count and positions as in
+     * {@link BoyerMooreMajorityVote.MajorityResult}.
+     */
+    public static class CompositeMajorityResult {
+        private final int[] key;
+        private final int count;
+        private final int firstPosition;
+        private final int lastPosition;
+
+        public CompositeMajorityResult(int[] key, int count, int firstPos, int lastPos) {
+            this.key = key.clone();
+            this.count = count;
+            this.firstPosition = firstPos;
+            this.lastPosition = lastPos;
+        }
+
+        public int[] getKey() { return key.clone(); }
+        public int getColumn(int column) { return key[column]; }
+        public int getColumnCount() { return key.length; }
+        public int getCount() { return count; }
+        public int getFirstPosition() { return firstPosition; }
+        public int getLastPosition() { return lastPosition; }
+
+        @Override
+        public String toString() {
+            return String.format("Majority: %s (count=%d, first@%d, last@%d)",
+                    Arrays.toString(key), count, firstPosition, lastPosition);
+        }
+    }
+
+    public CompositeMajorityVote() {
+        this(new PerformanceTracker());
+    }
+
+    public CompositeMajorityVote(PerformanceTracker tracker) {
+        this.tracker = tracker;
+    }
+
+    static long packKey(int first, int second) {
+        return ((long) first << 32) | (second & 0xFFFFFFFFL);
+    }
+
+    public Optional<CompositeMajorityResult> findMajority(int[] first, int[] second) {
+        validate(first, second);
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = first.length;
+        Optional<CompositeMajorityResult> result = Optional.empty();
+        if (n > 0) {
+            long candidate = packKey(first[0], second[0]);
+            int votes = 0;
+            for (int i = 0; i < n; i++) {
+                long key = packKey(first[i], second[i]);
+                if (votes == 0) {
+                    candidate = key;
+                    votes = 1;
+                } else if (key == candidate) {
+                    votes++;
+                } else {
+                    votes--;
+                }
+            }
+
+            int count = 0;
+            int firstPos = -1;
+            int lastPos = -1;
+            for (int i = 0; i < n; i++) {
+                if (packKey(first[i], second[i]) == candidate) {
+                    if (count == 0) {
+                        firstPos = i;
+                    }
+                    lastPos = i;
+                    count++;
+                }
+            }
+
+            if (count > n / 2) {
+                int[] key = {(int) (candidate >>> 32), (int) candidate};
+                result = Optional.of(new CompositeMajorityResult(key, count, firstPos, lastPos));
+            }
+            record(n, 2);
+        }
+
+        tracker.stopTimer();
+        return result;
+    }
+
+    /**
+     * N-column variant; two columns take the packed path of
+     * {@link #findMajority(int[], int[])}.
+     */
+    public Optional<CompositeMajorityResult> findMajority(int[]... columns) {
+        validate(columns);
+        if (columns.length == 2) {
+            return findMajority(columns[0], columns[1]);
+        }
+        tracker.reset();
+        tracker.startTimer();
+
+        int n = columns[0].length;
+        Optional<CompositeMajorityResult> result = Optional.empty();
+        if (n > 0) {
+            int candidateRow = 0;
+            int votes = 0;
+            for (int i = 0; i < n; i++) {
+                if (votes == 0) {
+                    candidateRow = i;
+                    votes = 1;
+                } else if (rowsEqual(columns, i, candidateRow)) {
+                    votes++;
+                } else {
+                    votes--;
+                }
+            }
+
+            int count = 0;
+            int firstPos = -1;
+            int lastPos = -1;
+            for (int i = 0; i < n; i++) {
+                if (rowsEqual(columns, i, candidateRow)) {
+                    if (count == 0) {
+                        firstPos = i;
+                    }
+                    lastPos = i;
+                    count++;
+                }
+            }
+
+            if (count > n / 2) {
+                int[] key = new int[columns.length];
+                for (int c = 0; c < columns.length; c++) {
+                    key[c] = columns[c][candidateRow];
+                }
+                result = Optional.of(new CompositeMajorityResult(key, count, firstPos, lastPos));
+            }
+            record(n, columns.length);
+        }
+
+        tracker.stopTimer();
+        return result;
+    }
+
+    // Column by column, stopping at the first difference.
+    private static boolean rowsEqual(int[][] columns, int row, int other) {
+        for (int[] column : columns) {
+            if (column[row] != column[other]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void validate(int[]... columns) {
+        if (columns == null) {
+            throw new IllegalArgumentException("Columns cannot be null");
+        }
+        if (columns.length == 0) {
+            throw new IllegalArgumentException("At least one column is required");
+        }
+        for (int[] column : columns) {
+            if (column == null) {
+                throw new IllegalArgumentException("Column cannot be null");
+            }
+            if (column.length != columns[0].length) {
+                throw new IllegalArgumentException("Columns must have the same length");
+            }
+        }
+    }
+
+    // Upper bounds: every row is read once per pass in each column.
+    private void record(int n, int columnCount) {
+        tracker.incrementArrayAccesses(2L * n * columnCount);
+        tracker.incrementComparisons(2L * n + 1);
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+}
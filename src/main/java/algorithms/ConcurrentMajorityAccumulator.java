@@ -0,0 +1,115 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Lock-free Boyer-Moore state shared by many producer threads, striped like
+ * {@link LongAdder}. Each cell holds a packed (candidate, count) vote updated by CAS;
+ * threads start on a cell chosen from their id and move to the next one when a CAS fails.
+ * Any input may land in any cell, because merging partial votes preserves the majority.
+ *
+ * <p>{@link #snapshot()} merges the cells on read. Like {@link LongAdder#sum()}, a snapshot
+ * taken while producers are running is not atomic. Each cell's count is an int, so a single
+ * cell holds at most 2^31 - 1 net votes.
+ */
+public class ConcurrentMajorityAccumulator {
+
+    // One cell per 128 bytes so neighbouring cells never share a cache line.
+    private static final int STRIDE = 16;
+
+    private final int cellCount;
+    private final AtomicLongArray cells;
+    private final LongAdder elements = new LongAdder();
+
+    public ConcurrentMajorityAccumulator() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public ConcurrentMajorityAccumulator(int stripes) {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Stripe count must be positive");
+        }
+        this.cellCount = Integer.highestOneBit(stripes * 2 - 1);
+        this.cells = new AtomicLongArray(cellCount * STRIDE);
+    }
+
+    public void add(int value) {
+        mergeIntoCell(MajorityKernels.packVote(value, 1));
+        elements.increment();
+    }
+
+    // Votes the slice locally, then publishes it with a single CAS.
+    public void add(int[] arr, int offset, int length) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, arr.length);
+        if (length == 0) {
+            return;
+        }
+        mergeIntoCell(MajorityKernels.voteAuto(arr, offset, offset + length));
+        elements.add(length);
+    }
+
+    private void mergeIntoCell(long vote) {
+        int cell = (int) mix(Thread.currentThread().getId()) & (cellCount - 1);
+        while (true) {
+            int index = cell * STRIDE;
+            long current = cells.get(index);
+            if (cells.compareAndSet(index, current, MajorityKernels.mergeVotes(current, vote))) {
+                return;
+            }
+            cell = (cell + 1) & (cellCount - 1);
+        }
+    }
+
+    public MajorityAccumulator snapshot() {
+        MajorityAccumulator total = MajorityAccumulator.ofState(0, 0, elements.sum());
+        for (int cell = 0; cell < cellCount; cell++) {
+            long vote = cells.get(cell * STRIDE);
+            int votes = MajorityKernels.voteCount(vote);
+            if (votes > 0) {
+                total.merge(MajorityAccumulator.ofState(MajorityKernels.voteCandidate(vote), votes, 0));
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Snapshots the merged candidate and verifies it against a replay of the input, in the
+     * order positions should be reported. Producers must be quiescent for an exact answer.
+     */
+    public Optional<MajorityResult> snapshotAndVerify(Iterable<IntSlice> replay) {
+        MajorityAccumulator total = snapshot();
+        total.startVerification();
+        for (IntSlice slice : replay) {
+            total.verify(slice.getArray(), slice.getOffset(), slice.getLength());
+        }
+        return total.verifiedResult();
+    }
+
+    public long getElementCount() {
+        return elements.sum();
+    }
+
+    public int getStripes() {
+        return cellCount;
+    }
+
+    public void reset() {
+        for (int cell = 0; cell < cellCount; cell++) {
+            cells.set(cell * STRIDE, 0L);
+        }
+        elements.reset();
+    }
+
+    private static long mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+}
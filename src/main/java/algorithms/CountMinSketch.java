@@ -0,0 +1,116 @@
+package algorithms;
+
+import java.util.Arrays;
+
+
+/**
+ * Count-Min sketch over int keys: {@code depth} rows of {@code width} long counters. An
+ * estimate never undercounts, and with probability 1 - delta overcounts by at most
+ * epsilon * N. Sketches with the same dimensions and seed merge by adding their tables.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final long seed;
+    private final int[] rowSeeds;
+    private final long[] table;
+    private long total;
+
+    public CountMinSketch(int width, int depth) {
+        this(width, depth, 42);
+    }
+
+    /**
+     * @param width rounded up to a power of two
+     */
+    public CountMinSketch(int width, int depth, long seed) {
+        if (width < 1 || width > 1 << 24) {
+            throw new IllegalArgumentException("Width must be between 1 and " + (1 << 24));
+        }
+        if (depth < 1 || depth > 32) {
+            throw new IllegalArgumentException("Depth must be between 1 and 32");
+        }
+        int rounded = 1;
+        while (rounded < width) {
+            rounded <<= 1;
+        }
+        this.width = rounded;
+        this.depth = depth;
+        this.seed = seed;
+        this.rowSeeds = new int[depth];
+        long state = seed;
+        for (int row = 0; row < depth; row++) {
+            state = state * 6364136223846793005L + 1442695040888963407L;
+            rowSeeds[row] = (int) (state >>> 32) | 1;
+        }
+        this.table = new long[this.width * depth];
+    }
+
+    // Sketch sized for overcount <= epsilon * N with probability 1 - delta.
+    public static CountMinSketch withErrorBounds(double epsilon, double delta) {
+        if (!(epsilon > 0 && epsilon < 1) || !(delta > 0 && delta < 1)) {
+            throw new IllegalArgumentException("epsilon and delta must be in (0, 1)");
+        }
+        int width = (int) Math.ceil(Math.E / epsilon);
+        int depth = (int) Math.ceil(Math.log(1 / delta));
+        return new CountMinSketch(width, depth);
+    }
+
+    public void add(int key, long count) {
+        int mask = width - 1;
+        for (int row = 0; row < depth; row++) {
+            table[row * width + (hash(key, rowSeeds[row]) & mask)] += count;
+        }
+        total += count;
+    }
+
+    public long estimate(int key) {
+        int mask = width - 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table[row * width + (hash(key, rowSeeds[row]) & mask)]);
+        }
+        return min;
+    }
+
+    public void merge(CountMinSketch other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Sketch cannot be null");
+        }
+        if (other.width != width || other.depth != depth || other.seed != seed) {
+            throw new IllegalArgumentException("Sketches must have the same width, depth and seed");
+        }
+        for (int i = 0; i < table.length; i++) {
+            table[i] += other.table[i];
+        }
+        total += other.total;
+    }
+
+    public void clear() {
+        Arrays.fill(table, 0);
+        total = 0;
+    }
+
+    // Murmur3 finalizer over the seeded key; every output bit depends on every key bit.
+    private static int hash(int key, int rowSeed) {
+        int h = key ^ rowSeed;
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        return h ^ (h >>> 16);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,173 @@
+package algorithms;
+
+import java.util.Arrays;
+
+
+/**
+ * Open-addressing int-to-int table with linear probing. Keys and values live in
+ * primitive arrays, so lookups and updates never box or allocate.
+ */
+final class IntIntHashTable {
+
+    private int[] keys;
+    private int[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    IntIntHashTable(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(2, expectedSize) * 2 - 1) << 1;
+        keys = new int[capacity];
+        values = new int[capacity];
+        used = new boolean[capacity];
+        mask = capacity - 1;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int capacity() {
+        return keys.length;
+    }
+
+    boolean isUsed(int slot) {
+        return used[slot];
+    }
+
+    int keyAt(int slot) {
+        return keys[slot];
+    }
+
+    int valueAt(int slot) {
+        return values[slot];
+    }
+
+    void setValueAt(int slot, int value) {
+        values[slot] = value;
+    }
+
+    // Slot holding key, or -1.
+    int find(int key) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    int get(int key, int missing) {
+        int slot = find(key);
+        return slot < 0 ? missing : values[slot];
+    }
+
+    void put(int key, int value) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                values[slot] = value;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        insertAt(slot, key, value);
+    }
+
+    // Adds delta to the value of key (inserting it at 0 first) and returns the new value.
+    int addTo(int key, int delta) {
+        int slot = mix(key) & mask;
+        while (used[slot]) {
+            if (keys[slot] == key) {
+                return values[slot] += delta;
+            }
+            slot = (slot + 1) & mask;
+        }
+        insertAt(slot, key, delta);
+        return delta;
+    }
+
+    void remove(int key) {
+        int slot = find(key);
+        if (slot >= 0) {
+            removeAt(slot);
+        }
+    }
+
+    // Backward-shift deletion: pull later chain members into the hole instead of leaving tombstones.
+    private void removeAt(int slot) {
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        while (used[next]) {
+            int home = mix(keys[next]) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = keys[next];
+                values[hole] = values[next];
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        used[hole] = false;
+        size--;
+    }
+
+    void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private void insertAt(int slot, int key, int value) {
+        keys[slot] = key;
+        values[slot] = value;
+        used[slot] = true;
+        if (++size * 2 > keys.length) {
+            grow();
+        }
+    }
+
+    private void grow() {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        boolean[] oldUsed = used;
+
+        keys = new int[oldKeys.length * 2];
+        values = new int[oldKeys.length * 2];
+        used = new boolean[oldKeys.length * 2];
+        mask = keys.length - 1;
+        size = 0;
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    /**
+     * Decrements every value by one and drops the entries that reach zero with backward-shift
+     * deletion. The scan starts just after an empty slot, so no probe chain wraps past it and
+     * every entry shifted into a hole is one the scan has not reached yet.
+     */
+    void decrementAll() {
+        int start = 0;
+        while (used[start]) {
+            start++;
+        }
+        int slot = (start + 1) & mask;
+        for (int visited = 1; visited < keys.length; ) {
+            if (used[slot] && --values[slot] == 0) {
+                removeAt(slot);
+                continue;
+            }
+            slot = (slot + 1) & mask;
+            visited++;
+        }
+    }
+
+    private static int mix(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
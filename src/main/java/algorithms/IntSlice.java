@@ -0,0 +1,32 @@
+package algorithms;
+
+import java.util.Objects;
+
+
+/**
+ * A read-only view of {@code array[offset, offset + length)}; no data is copied.
+ */
+public final class IntSlice {
+
+    private final int[] array;
+    private final int offset;
+    private final int length;
+
+    public IntSlice(int[] array, int offset, int length) {
+        if (array == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, array.length);
+        this.array = array;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    public static IntSlice of(int[] array) {
+        return new IntSlice(array, 0, array == null ? 0 : array.length);
+    }
+
+    public int[] getArray() { return array; }
+    public int getOffset() { return offset; }
+    public int getLength() { return length; }
+}
@@ -0,0 +1,124 @@
+package algorithms;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+
+/**
+ * Byte-level parser for decimal int32 values separated by commas, semicolons or whitespace
+ * (so newline- and comma-separated dumps both work). Input is read through one large direct
+ * buffer and decoded without creating Strings; a value split across two reads is carried
+ * over in the parser state. Not thread-safe.
+ */
+public final class IntTextParser {
+
+    public static final int DEFAULT_BUFFER_BYTES = 1 << 20;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    private long bufferStart;
+    private boolean eof;
+
+    // State of the value currently being read; it may span buffer refills.
+    private long magnitude;
+    private boolean negative;
+    private int digits;
+
+    public IntTextParser(ReadableByteChannel channel) {
+        this(channel, DEFAULT_BUFFER_BYTES);
+    }
+
+    public IntTextParser(ReadableByteChannel channel, int bufferBytes) {
+        if (channel == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+        if (bufferBytes < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive");
+        }
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(bufferBytes);
+        this.buffer.flip();
+    }
+
+    /**
+     * Parses up to {@code batch.length} values into {@code batch}.
+     *
+     * @return the number of values written, or -1 once the input is exhausted
+     * @throws NumberFormatException on a malformed or out-of-range value
+     */
+    public int next(int[] batch) throws IOException {
+        int n = 0;
+        while (n < batch.length) {
+            if (!buffer.hasRemaining()) {
+                if (eof || !refill()) {
+                    if (digits > 0 || negative) {
+                        batch[n++] = finishValue(bufferStart + buffer.position());
+                    }
+                    break;
+                }
+            }
+
+            int pos = buffer.position();
+            int limit = buffer.limit();
+            while (pos < limit && n < batch.length) {
+                byte b = buffer.get(pos);
+                int digit = b - '0';
+                if (digit >= 0 && digit <= 9) {
+                    magnitude = magnitude * 10 + digit;
+                    digits++;
+                    if (magnitude > 1L << 31) {
+                        throw new NumberFormatException("Integer out of range at byte " + (bufferStart + pos));
+                    }
+                } else if (b == '-' && digits == 0 && !negative) {
+                    negative = true;
+                } else if (b == ',' || b == ';' || b == ' ' || b == '\n' || b == '\r' || b == '\t') {
+                    if (digits > 0 || negative) {
+                        batch[n++] = finishValue(bufferStart + pos);
+                    }
+                } else {
+                    throw new NumberFormatException("Unexpected byte 0x"
+                            + Integer.toHexString(b & 0xFF) + " at byte " + (bufferStart + pos));
+                }
+                pos++;
+            }
+            buffer.position(pos);
+        }
+        return n == 0 && eof ? -1 : n;
+    }
+
+    private boolean refill() throws IOException {
+        bufferStart += buffer.limit();
+        buffer.clear();
+        int read;
+        do {
+            read = channel.read(buffer);
+        } while (read == 0);
+        buffer.flip();
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        return true;
+    }
+
+    private int finishValue(long offset) {
+        if (digits == 0) {
+            throw new NumberFormatException("Sign without digits at byte " + offset);
+        }
+        long value = negative ? -magnitude : magnitude;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("Integer out of range at byte " + offset);
+        }
+        magnitude = 0;
+        negative = false;
+        digits = 0;
+        return (int) value;
+    }
+
+    // Bytes consumed from the channel so far.
+    public long getBytesRead() {
+        return bufferStart + buffer.limit();
+    }
+}
@@ -0,0 +1,237 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+import java.nio.IntBuffer;
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Incremental Boyer-Moore for input that arrives in slices. The voting state is a
+ * (candidate, count) pair plus the number of elements seen; two accumulators over
+ * disjoint parts of the input can be merged in any order.
+ *
+ * <p>Verification is a second pass: call {@link #startVerification()}, replay the same
+ * slices in the same order through {@link #verify(int[], int, int)}, then read
+ * {@link #verifiedResult()}. Neither pass allocates per slice.
+ */
+public class MajorityAccumulator {
+
+    private int candidate;
+    private long count;
+    private long elementCount;
+
+    private boolean verifying;
+    private int verifiedCandidate;
+    private long verifiedCount;
+    private long verifiedElements;
+    private long firstPosition;
+    private long lastPosition;
+
+    public MajorityAccumulator() {
+        reset();
+    }
+
+    public void reset() {
+        candidate = 0;
+        count = 0;
+        elementCount = 0;
+        verifying = false;
+        verifiedCandidate = 0;
+        verifiedCount = 0;
+        verifiedElements = 0;
+        firstPosition = -1;
+        lastPosition = -1;
+    }
+
+    // Accumulator holding an already-computed voting state, e.g. merged from concurrent cells.
+    static MajorityAccumulator ofState(int candidate, long votes, long elementCount) {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        acc.candidate = candidate;
+        acc.count = votes;
+        acc.elementCount = elementCount;
+        return acc;
+    }
+
+    public void add(int[] arr) {
+        add(arr, 0, arr == null ? 0 : arr.length);
+    }
+
+    public void add(int[] arr, int offset, int length) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, arr.length);
+        if (verifying) {
+            throw new IllegalStateException("Cannot add input after verification has started");
+        }
+        if (length == 0) {
+            return;
+        }
+
+        long vote = MajorityKernels.voteAuto(arr, offset, offset + length);
+        mergeVote(MajorityKernels.voteCandidate(vote), MajorityKernels.voteCount(vote));
+        elementCount += length;
+    }
+
+    // Absolute slice [offset, offset + length) of buf; the buffer position is not touched.
+    public void add(IntBuffer buf, int offset, int length) {
+        if (buf == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, buf.limit());
+        if (verifying) {
+            throw new IllegalStateException("Cannot add input after verification has started");
+        }
+        if (length == 0) {
+            return;
+        }
+
+        long vote = MajorityKernels.continueVote(
+                MajorityKernels.packVote(buf.get(offset), 0), buf, offset, offset + length);
+        mergeVote(MajorityKernels.voteCandidate(vote), MajorityKernels.voteCount(vote));
+        elementCount += length;
+    }
+
+    // Folds the voting state of 'other' into this one; 'other' is left unchanged.
+    public void merge(MajorityAccumulator other) {
+        if (verifying) {
+            throw new IllegalStateException("Cannot merge after verification has started");
+        }
+        mergeVote(other.candidate, other.count);
+        elementCount += other.elementCount;
+    }
+
+    private void mergeVote(int otherCandidate, long otherCount) {
+        if (otherCount == 0) {
+            return;
+        }
+        if (count == 0 || candidate == otherCandidate) {
+            candidate = otherCandidate;
+            count += otherCount;
+        } else if (count >= otherCount) {
+            count -= otherCount;
+        } else {
+            candidate = otherCandidate;
+            count = otherCount - count;
+        }
+    }
+
+    public boolean hasCandidate() {
+        return count > 0;
+    }
+
+    // Only meaningful when hasCandidate() is true.
+    public int getCandidate() {
+        return candidate;
+    }
+
+    public long getCandidateVotes() {
+        return count;
+    }
+
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    public void startVerification() {
+        startVerification(candidate);
+    }
+
+    // Verifies an externally chosen candidate, e.g. the merged candidate of several accumulators.
+    public void startVerification(int candidate) {
+        verifying = true;
+        verifiedCandidate = candidate;
+        verifiedCount = 0;
+        verifiedElements = 0;
+        firstPosition = -1;
+        lastPosition = -1;
+    }
+
+    public void verify(int[] arr) {
+        verify(arr, 0, arr == null ? 0 : arr.length);
+    }
+
+    public void verify(int[] arr, int offset, int length) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, arr.length);
+        if (!verifying) {
+            throw new IllegalStateException("Verification has not been started");
+        }
+
+        int end = offset + length;
+        int matches = MajorityKernels.countOccurrences(arr, offset, end, verifiedCandidate);
+        if (matches > 0) {
+            if (firstPosition == -1) {
+                firstPosition = verifiedElements
+                        + MajorityKernels.indexOf(arr, offset, end, verifiedCandidate) - offset;
+            }
+            lastPosition = verifiedElements
+                    + MajorityKernels.lastIndexOf(arr, offset, end, verifiedCandidate) - offset;
+            verifiedCount += matches;
+        }
+        verifiedElements += length;
+    }
+
+    public void verify(IntBuffer buf, int offset, int length) {
+        if (buf == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, buf.limit());
+        if (!verifying) {
+            throw new IllegalStateException("Verification has not been started");
+        }
+
+        int end = offset + length;
+        int matches = MajorityKernels.countOccurrences(buf, offset, end, verifiedCandidate);
+        if (matches > 0) {
+            if (firstPosition == -1) {
+                firstPosition = verifiedElements
+                        + MajorityKernels.indexOf(buf, offset, end, verifiedCandidate) - offset;
+            }
+            lastPosition = verifiedElements
+                    + MajorityKernels.lastIndexOf(buf, offset, end, verifiedCandidate) - offset;
+            verifiedCount += matches;
+        }
+        verifiedElements += length;
+    }
+
+    public long getVerifiedCount() {
+        return verifiedCount;
+    }
+
+    public long getFirstPosition() {
+        return firstPosition;
+    }
+
+    public long getLastPosition() {
+        return lastPosition;
+    }
+
+    public boolean isMajorityVerified() {
+        if (!verifying || count == 0) {
+            return false;
+        }
+        if (verifiedElements != elementCount) {
+            throw new IllegalStateException("Replayed " + verifiedElements
+                    + " elements, expected " + elementCount);
+        }
+        return verifiedCount > elementCount / 2;
+    }
+
+    /**
+     * Result of the verification pass, with positions relative to the start of the replayed
+     * stream. Streams longer than {@code Integer.MAX_VALUE} should read the long getters instead.
+     */
+    public Optional<MajorityResult> verifiedResult() {
+        if (!isMajorityVerified()) {
+            return Optional.empty();
+        }
+        return Optional.of(new MajorityResult(verifiedCandidate,
+                Math.toIntExact(verifiedCount),
+                Math.toIntExact(firstPosition),
+                Math.toIntExact(lastPosition)));
+    }
+}
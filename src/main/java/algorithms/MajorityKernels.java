@@ -0,0 +1,241 @@
+package algorithms;
+
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+
+/**
+ * Uninstrumented Boyer-Moore loops shared by the fast paths. Nothing here touches a
+ * {@link metrics.PerformanceTracker}, so the JIT is free to unroll and vectorize.
+ *
+ * <p>A vote state (candidate, count) is packed into a single {@code long} so the
+ * kernels return it without allocating.
+ */
+public final class MajorityKernels {
+
+    // Lanes of voteBranchless; a multiple of every vector width.
+    static final int LANES = 256;
+
+    // Per-thread block, candidate and count arrays, so steady-state calls allocate nothing.
+    private static final ThreadLocal<int[][]> LANE_SCRATCH =
+            ThreadLocal.withInitial(() -> new int[3][LANES]);
+
+    // Below this length merging the lanes costs more than the mispredictions it saves.
+    public static final int BRANCHLESS_MIN_LENGTH = 4096;
+
+    public static final VoteKernels SCALAR = new VoteKernels() {
+        @Override
+        public long vote(int[] arr, int from, int to) {
+            return voteAuto(arr, from, to);
+        }
+
+        @Override
+        public int countOccurrences(int[] arr, int from, int to, int value) {
+            return MajorityKernels.countOccurrences(arr, from, to, value);
+        }
+    };
+
+    // Class and field of the kernels built by the vector profile (JDK 17+).
+    private static final String VECTOR_KERNELS_CLASS = "algorithms.VectorMajorityKernels";
+    private static final String VECTOR_KERNELS_FIELD = "KERNELS";
+
+    private MajorityKernels() {
+    }
+
+    /**
+     * Kernels by name: "scalar", or "vector" when the vector profile's classes are on the
+     * class path and the JVM runs with {@code --add-modules jdk.incubator.vector}.
+     */
+    public static VoteKernels byName(String name) {
+        if ("scalar".equals(name)) {
+            return SCALAR;
+        }
+        if ("vector".equals(name)) {
+            try {
+                return (VoteKernels) Class.forName(VECTOR_KERNELS_CLASS).getField(VECTOR_KERNELS_FIELD).get(null);
+            } catch (ReflectiveOperationException | LinkageError e) {
+                throw new IllegalArgumentException("Vector kernels unavailable (build with -Pvector and run with"
+                        + " --add-modules jdk.incubator.vector): " + e);
+            }
+        }
+        throw new IllegalArgumentException("Unknown kernels: " + name);
+    }
+
+    // Kernels named by the majority.kernels system property, scalar by default.
+    public static VoteKernels configured() {
+        return byName(System.getProperty("majority.kernels", "scalar"));
+    }
+
+    public static long packVote(int candidate, int count) {
+        return ((long) candidate << 32) | (count & 0xFFFFFFFFL);
+    }
+
+    public static int voteCandidate(long vote) {
+        return (int) (vote >>> 32);
+    }
+
+    public static int voteCount(long vote) {
+        return (int) vote;
+    }
+
+    public static long mergeVotes(long left, long right) {
+        int leftCandidate = voteCandidate(left);
+        int leftCount = voteCount(left);
+        int rightCandidate = voteCandidate(right);
+        int rightCount = voteCount(right);
+
+        if (leftCandidate == rightCandidate) {
+            return packVote(leftCandidate, leftCount + rightCount);
+        }
+        return leftCount >= rightCount
+                ? packVote(leftCandidate, leftCount - rightCount)
+                : packVote(rightCandidate, rightCount - leftCount);
+    }
+
+    // Voting pass over arr[from, to); from < to is required.
+    public static long vote(int[] arr, int from, int to) {
+        return continueVote(packVote(arr[from], 0), arr, from, to);
+    }
+
+    // Feeds arr[from, to) into an existing vote state, exactly as if it followed the earlier input.
+    public static long continueVote(long vote, int[] arr, int from, int to) {
+        int candidate = voteCandidate(vote);
+        int count = voteCount(vote);
+        for (int i = from; i < to; i++) {
+            int value = arr[i];
+            if (count == 0) {
+                candidate = value;
+                count = 1;
+            } else if (value == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return packVote(candidate, count);
+    }
+
+    /**
+     * Branch-free voting pass over arr[from, to); from < to is required. The range is cut
+     * into blocks of {@link #LANES} elements and lane j runs Boyer-Moore over element j of
+     * every block, with mask arithmetic in place of the count == 0 and value == candidate
+     * branches. Lanes are independent, so the block loop is a plain array loop that the JIT
+     * unrolls and vectorizes. The lane states and the leftover tail are merged at the end:
+     * the candidate is valid for verification, but on input without a majority it may
+     * differ from {@link #vote(int[], int, int)}.
+     */
+    public static long voteBranchless(int[] arr, int from, int to) {
+        int[][] lanes = LANE_SCRATCH.get();
+        int[] block = lanes[0];
+        int[] candidates = lanes[1];
+        int[] counts = lanes[2];
+        Arrays.fill(counts, 0);
+        int i = from;
+        for (; to - i >= LANES; i += LANES) {
+            // Copying first keeps every array in the loop at the same offset, which the
+            // vectorizer needs.
+            System.arraycopy(arr, i, block, 0, LANES);
+            for (int j = 0; j < LANES; j++) {
+                int candidate = candidates[j];
+                int count = counts[j];
+                int diff = block[j] ^ candidate;
+                int held = -count;
+                // held < 0 while the lane has a candidate: -1 on a mismatch, +1 otherwise.
+                counts[j] = count + 1 + ((((diff | -diff) & held) >> 31) << 1);
+                candidates[j] = candidate ^ (diff & ~(held >> 31));
+            }
+        }
+
+        long vote = i < to ? vote(arr, i, to) : packVote(arr[from], 0);
+        for (int j = 0; j < LANES; j++) {
+            vote = mergeVotes(vote, packVote(candidates[j], counts[j]));
+        }
+        return vote;
+    }
+
+    // Voting pass with the kernel chosen by length; see BRANCHLESS_MIN_LENGTH.
+    public static long voteAuto(int[] arr, int from, int to) {
+        return to - from >= BRANCHLESS_MIN_LENGTH
+                ? voteBranchless(arr, from, to)
+                : vote(arr, from, to);
+    }
+
+    public static int countOccurrences(int[] arr, int from, int to, int value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (arr[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static int indexOf(int[] arr, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (arr[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int lastIndexOf(int[] arr, int from, int to, int value) {
+        for (int i = to - 1; i >= from; i--) {
+            if (arr[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // IntBuffer variants use absolute gets on [from, to) and never move the buffer position.
+
+    public static long vote(IntBuffer buf, int from, int to) {
+        return continueVote(packVote(buf.get(from), 0), buf, from, to);
+    }
+
+    public static long continueVote(long vote, IntBuffer buf, int from, int to) {
+        int candidate = voteCandidate(vote);
+        int count = voteCount(vote);
+        for (int i = from; i < to; i++) {
+            int value = buf.get(i);
+            if (count == 0) {
+                candidate = value;
+                count = 1;
+            } else if (value == candidate) {
+                count++;
+            } else {
+                count--;
+            }
+        }
+        return packVote(candidate, count);
+    }
+
+    public static int countOccurrences(IntBuffer buf, int from, int to, int value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (buf.get(i) == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static int indexOf(IntBuffer buf, int from, int to, int value) {
+        for (int i = from; i < to; i++) {
+            if (buf.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public static int lastIndexOf(IntBuffer buf, int from, int to, int value) {
+        for (int i = to - 1; i >= from; i--) {
+            if (buf.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
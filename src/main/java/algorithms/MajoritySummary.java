@@ -0,0 +1,284 @@
+package algorithms;
+
+import algorithms.MappedFileMajorityVote.FileMajorityResult;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+
+/**
+ * Exchangeable Boyer-Moore state of one shard, for multi-node runs: each node summarizes its
+ * shard, the summaries are merged into a global candidate, and each node then reports a
+ * {@link CandidateCount} for that candidate, which {@link #combine(List)} turns into the
+ * verified result.
+ *
+ * <p>Binary format (little-endian), version 1:
+ * <pre>
+ * header:  int magic 'BMMS', short version, byte kind (1 = summary, 2 = count), byte 0
+ * summary: int candidate, long votes, long elementCount,
+ *          int hhCapacity (0 = none), int hhSize, long hhStreamLength,
+ *          hhSize x (int element, long count, long error)
+ * count:   int candidate, long elementCount, long count, long firstPosition, long lastPosition
+ * </pre>
+ * The optional heavy-hitter section is a full {@link SpaceSavingHeavyHitters} summary, so
+ * merged files keep its error bounds. Readers reject newer versions.
+ */
+public final class MajoritySummary {
+
+    public static final int MAGIC = 'B' | 'M' << 8 | 'M' << 16 | 'S' << 24;
+    public static final short VERSION = 1;
+
+    static final byte KIND_SUMMARY = 1;
+    static final byte KIND_COUNT = 2;
+    private static final int HEADER_BYTES = 8;
+    private static final int ENTRY_BYTES = Integer.BYTES + 2 * Long.BYTES;
+
+    private final MajorityAccumulator votes;
+    private final SpaceSavingHeavyHitters heavyHitters;
+
+
+    /**
+     * Occurrences of the global candidate in one shard; positions are shard-relative, -1 if absent.
+     */
+    public static final class CandidateCount {
+        private final int candidate;
+        private final long elementCount;
+        private final long count;
+        private final long firstPosition;
+        private final long lastPosition;
+
+        public CandidateCount(int candidate, long elementCount, long count, long firstPos, long lastPos) {
+            this.candidate = candidate;
+            this.elementCount = elementCount;
+            this.count = count;
+            this.firstPosition = firstPos;
+            this.lastPosition = lastPos;
+        }
+
+        public static CandidateCount count(IntBuffer shard, int candidate) {
+            if (shard == null) {
+                throw new IllegalArgumentException("Buffer cannot be null");
+            }
+            MajorityAccumulator acc = new MajorityAccumulator();
+            acc.startVerification(candidate);
+            acc.verify(shard, shard.position(), shard.remaining());
+            return new CandidateCount(candidate, shard.remaining(), acc.getVerifiedCount(),
+                    acc.getFirstPosition(), acc.getLastPosition());
+        }
+
+        public int getCandidate() { return candidate; }
+        public long getElementCount() { return elementCount; }
+        public long getCount() { return count; }
+        public long getFirstPosition() { return firstPosition; }
+        public long getLastPosition() { return lastPosition; }
+
+        public byte[] toBytes() {
+            ByteBuffer buf = header(KIND_COUNT, Integer.BYTES + 4 * Long.BYTES);
+            buf.putInt(candidate).putLong(elementCount).putLong(count)
+                    .putLong(firstPosition).putLong(lastPosition);
+            return buf.array();
+        }
+
+        public static CandidateCount fromBytes(byte[] bytes) {
+            ByteBuffer buf = readHeader(bytes, KIND_COUNT);
+            try {
+                return new CandidateCount(buf.getInt(), buf.getLong(), buf.getLong(), buf.getLong(), buf.getLong());
+            } catch (BufferUnderflowException e) {
+                throw new IllegalArgumentException("Truncated candidate count");
+            }
+        }
+
+        public void writeTo(Path file) throws IOException {
+            Files.write(file, toBytes());
+        }
+
+        public static CandidateCount readFrom(Path file) throws IOException {
+            return fromBytes(Files.readAllBytes(file));
+        }
+    }
+
+    /**
+     * @param heavyHitters summary of the same shard, or null
+     */
+    public MajoritySummary(MajorityAccumulator votes, SpaceSavingHeavyHitters heavyHitters) {
+        if (votes == null) {
+            throw new IllegalArgumentException("Accumulator cannot be null");
+        }
+        this.votes = MajorityAccumulator.ofState(votes.getCandidate(), votes.getCandidateVotes(),
+                votes.getElementCount());
+        this.heavyHitters = heavyHitters;
+    }
+
+    /**
+     * @param heavyHitterCapacity Space-Saving capacity, or 0 for a votes-only summary
+     */
+    public static MajoritySummary summarize(IntBuffer shard, int heavyHitterCapacity) {
+        if (shard == null) {
+            throw new IllegalArgumentException("Buffer cannot be null");
+        }
+        MajorityAccumulator acc = new MajorityAccumulator();
+        acc.add(shard, shard.position(), shard.remaining());
+
+        SpaceSavingHeavyHitters hitters = null;
+        if (heavyHitterCapacity > 0) {
+            hitters = new SpaceSavingHeavyHitters(heavyHitterCapacity);
+            for (int i = shard.position(); i < shard.limit(); i++) {
+                hitters.add(shard.get(i));
+            }
+        }
+        return new MajoritySummary(acc, hitters);
+    }
+
+    // Folds in the summary of another shard; 'other' is left unchanged.
+    public void merge(MajoritySummary other) {
+        if ((heavyHitters == null) != (other.heavyHitters == null)) {
+            throw new IllegalArgumentException("Either both summaries or neither must have heavy hitters");
+        }
+        votes.merge(other.votes);
+        if (heavyHitters != null) {
+            heavyHitters.merge(other.heavyHitters);
+        }
+    }
+
+    /**
+     * Verified result from every shard's count, in shard order: positions become global by
+     * offsetting each shard with the element counts of the shards before it.
+     */
+    public Optional<FileMajorityResult> combine(List<CandidateCount> shardCounts) {
+        if (!votes.hasCandidate()) {
+            return Optional.empty();
+        }
+        int candidate = votes.getCandidate();
+        long offset = 0;
+        long count = 0;
+        long firstPos = -1;
+        long lastPos = -1;
+        for (CandidateCount shard : shardCounts) {
+            if (shard.getCandidate() != candidate) {
+                throw new IllegalArgumentException("Shard counted " + shard.getCandidate()
+                        + ", expected candidate " + candidate);
+            }
+            if (shard.getCount() > 0) {
+                if (firstPos == -1) {
+                    firstPos = offset + shard.getFirstPosition();
+                }
+                lastPos = offset + shard.getLastPosition();
+                count += shard.getCount();
+            }
+            offset += shard.getElementCount();
+        }
+
+        if (offset != votes.getElementCount()) {
+            throw new IllegalStateException("Shards hold " + offset + " elements, summary expects "
+                    + votes.getElementCount());
+        }
+        if (count > offset / 2) {
+            return Optional.of(new FileMajorityResult(candidate, count, firstPos, lastPos));
+        }
+        return Optional.empty();
+    }
+
+    public boolean hasCandidate() {
+        return votes.hasCandidate();
+    }
+
+    // Only meaningful when hasCandidate() is true.
+    public int getCandidate() {
+        return votes.getCandidate();
+    }
+
+    public long getCandidateVotes() {
+        return votes.getCandidateVotes();
+    }
+
+    public long getElementCount() {
+        return votes.getElementCount();
+    }
+
+    // Null for votes-only summaries.
+    public SpaceSavingHeavyHitters getHeavyHitters() {
+        return heavyHitters;
+    }
+
+    public byte[] toBytes() {
+        int entries = heavyHitters == null ? 0 : heavyHitters.size();
+        ByteBuffer buf = header(KIND_SUMMARY, Integer.BYTES + 2 * Long.BYTES
+                + 2 * Integer.BYTES + Long.BYTES + entries * ENTRY_BYTES);
+        buf.putInt(votes.getCandidate()).putLong(votes.getCandidateVotes()).putLong(votes.getElementCount());
+        if (heavyHitters == null) {
+            buf.putInt(0).putInt(0).putLong(0);
+        } else {
+            buf.putInt(heavyHitters.getCapacity()).putInt(entries).putLong(heavyHitters.getStreamLength());
+            for (int pos = 0; pos < entries; pos++) {
+                buf.putInt(heavyHitters.keyAt(pos)).putLong(heavyHitters.countAt(pos))
+                        .putLong(heavyHitters.errorAt(pos));
+            }
+        }
+        return buf.array();
+    }
+
+    public static MajoritySummary fromBytes(byte[] bytes) {
+        ByteBuffer buf = readHeader(bytes, KIND_SUMMARY);
+        try {
+            MajorityAccumulator votes = MajorityAccumulator.ofState(buf.getInt(), buf.getLong(), buf.getLong());
+            int capacity = buf.getInt();
+            int entries = buf.getInt();
+            long streamLength = buf.getLong();
+            if (capacity == 0) {
+                return new MajoritySummary(votes, null);
+            }
+            if (capacity < 0 || entries < 0 || entries > capacity || entries > buf.remaining() / ENTRY_BYTES) {
+                throw new IllegalArgumentException("Corrupt heavy-hitter section");
+            }
+
+            int[] keys = new int[entries];
+            long[] counts = new long[entries];
+            long[] errors = new long[entries];
+            for (int i = 0; i < entries; i++) {
+                keys[i] = buf.getInt();
+                counts[i] = buf.getLong();
+                errors[i] = buf.getLong();
+            }
+            return new MajoritySummary(votes,
+                    SpaceSavingHeavyHitters.ofEntries(capacity, keys, counts, errors, entries, streamLength));
+        } catch (BufferUnderflowException e) {
+            throw new IllegalArgumentException("Truncated majority summary");
+        }
+    }
+
+    public void writeTo(Path file) throws IOException {
+        Files.write(file, toBytes());
+    }
+
+    public static MajoritySummary readFrom(Path file) throws IOException {
+        return fromBytes(Files.readAllBytes(file));
+    }
+
+    private static ByteBuffer header(byte kind, int bodyBytes) {
+        ByteBuffer buf = ByteBuffer.allocate(HEADER_BYTES + bodyBytes).order(ByteOrder.LITTLE_ENDIAN);
+        return buf.putInt(MAGIC).putShort(VERSION).put(kind).put((byte) 0);
+    }
+
+    private static ByteBuffer readHeader(byte[] bytes, byte expectedKind) {
+        ByteBuffer buf = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (bytes.length < HEADER_BYTES || buf.getInt() != MAGIC) {
+            throw new IllegalArgumentException("Not a majority summary file");
+        }
+        short version = buf.getShort();
+        if (version < 1 || version > VERSION) {
+            throw new IllegalArgumentException("Unsupported summary version " + version);
+        }
+        byte kind = buf.get();
+        buf.get();
+        if (kind != expectedKind) {
+            throw new IllegalArgumentException("Expected record kind " + expectedKind + ", found " + kind);
+        }
+        return buf;
+    }
+}
@@ -0,0 +1,196 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+
+/**
+ * Boyer-Moore over a file of little-endian int32 values that may be larger than the heap.
+ * The file is mapped one segment at a time; each segment gets its own
+ * {@link MajorityAccumulator}, and the per-segment states are merged in file order.
+ * With a pool, segments of both passes are processed concurrently.
+ */
+public class MappedFileMajorityVote {
+
+    public static final int DEFAULT_SEGMENT_ELEMENTS = 1 << 26; // 256 MB per mapping
+
+    private final int segmentElements;
+    private final ForkJoinPool pool;
+    private final PerformanceTracker tracker;
+
+
+    public static class FileMajorityResult {
+        private final int element;
+        private final long count;
+        private final long firstPosition;
+        private final long lastPosition;
+
+        public FileMajorityResult(int element, long count, long firstPos, long lastPos) {
+            this.element = element;
+            this.count = count;
+            this.firstPosition = firstPos;
+            this.lastPosition = lastPos;
+        }
+
+        public int getElement() { return element; }
+        public long getCount() { return count; }
+        public long getFirstPosition() { return firstPosition; }
+        public long getLastPosition() { return lastPosition; }
+
+        @Override
+        public String toString() {
+            return String.format("Majority: %d (count=%d, first@%d, last@%d)",
+                    element, count, firstPosition, lastPosition);
+        }
+    }
+
+    public MappedFileMajorityVote() {
+        this(DEFAULT_SEGMENT_ELEMENTS, null);
+    }
+
+    /**
+     * @param pool pool for concurrent segment processing, or null to scan segments sequentially
+     */
+    public MappedFileMajorityVote(int segmentElements, ForkJoinPool pool) {
+        this(segmentElements, pool, new PerformanceTracker());
+    }
+
+    public MappedFileMajorityVote(int segmentElements, ForkJoinPool pool, PerformanceTracker tracker) {
+        if (segmentElements < 1 || segmentElements > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IllegalArgumentException("Segment size must be between 1 and "
+                    + Integer.MAX_VALUE / Integer.BYTES + " elements");
+        }
+        this.segmentElements = segmentElements;
+        this.pool = pool;
+        this.tracker = tracker;
+    }
+
+    public Optional<FileMajorityResult> findMajority(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("File length " + size + " is not a multiple of 4 bytes");
+            }
+
+            tracker.reset();
+            tracker.startTimer();
+
+            long elements = size / Integer.BYTES;
+            int segments = (int) ((elements + segmentElements - 1) / segmentElements);
+            MajorityAccumulator[] parts = new MajorityAccumulator[segments];
+
+            runSegments(channel, elements, parts, -1, false);
+
+            MajorityAccumulator total = new MajorityAccumulator();
+            for (MajorityAccumulator part : parts) {
+                total.merge(part);
+            }
+
+            Optional<FileMajorityResult> result = Optional.empty();
+            if (total.hasCandidate()) {
+                int candidate = total.getCandidate();
+                runSegments(channel, elements, parts, candidate, true);
+                result = combine(parts, candidate, elements);
+            }
+
+            tracker.incrementArrayAccesses(2 * elements);
+            tracker.incrementComparisons(2 * elements + 1);
+            tracker.stopTimer();
+            return result;
+        }
+    }
+
+    private void runSegments(FileChannel channel, long elements, MajorityAccumulator[] parts,
+                             int candidate, boolean verify) throws IOException {
+        if (pool == null) {
+            for (int s = 0; s < parts.length; s++) {
+                processSegment(channel, elements, parts, s, candidate, verify);
+            }
+            return;
+        }
+
+        List<ForkJoinTask<?>> tasks = new ArrayList<>(parts.length);
+        for (int s = 0; s < parts.length; s++) {
+            int segment = s;
+            tasks.add(pool.submit(() -> {
+                try {
+                    processSegment(channel, elements, parts, segment, candidate, verify);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }));
+        }
+        try {
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private void processSegment(FileChannel channel, long elements, MajorityAccumulator[] parts,
+                                int segment, int candidate, boolean verify) throws IOException {
+        long start = (long) segment * segmentElements;
+        int length = (int) Math.min(segmentElements, elements - start);
+
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY,
+                start * Integer.BYTES, (long) length * Integer.BYTES);
+        IntBuffer ints = mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+
+        if (verify) {
+            parts[segment].startVerification(candidate);
+            parts[segment].verify(ints, 0, length);
+        } else {
+            MajorityAccumulator part = new MajorityAccumulator();
+            part.add(ints, 0, length);
+            parts[segment] = part;
+        }
+    }
+
+    private Optional<FileMajorityResult> combine(MajorityAccumulator[] parts, int candidate, long elements) {
+        long count = 0;
+        long firstPos = -1;
+        long lastPos = -1;
+        for (int s = 0; s < parts.length; s++) {
+            MajorityAccumulator part = parts[s];
+            if (part.getVerifiedCount() > 0) {
+                long base = (long) s * segmentElements;
+                if (firstPos == -1) {
+                    firstPos = base + part.getFirstPosition();
+                }
+                lastPos = base + part.getLastPosition();
+                count += part.getVerifiedCount();
+            }
+        }
+
+        if (count > elements / 2) {
+            return Optional.of(new FileMajorityResult(candidate, count, firstPos, lastPos));
+        }
+        return Optional.empty();
+    }
+
+    public int getSegmentElements() {
+        return segmentElements;
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+}
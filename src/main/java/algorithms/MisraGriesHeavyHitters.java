@@ -0,0 +1,124 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+import metrics.PerformanceTracker;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Misra-Gries generalization of Boyer-Moore: finds every element occurring more than
+ * n/k times. The first pass keeps at most k-1 (candidate, count) pairs; the second pass
+ * counts the surviving candidates exactly. For k = 2 this is the majority problem.
+ */
+public class MisraGriesHeavyHitters {
+
+    private final int k;
+    private final PerformanceTracker tracker;
+
+    public MisraGriesHeavyHitters(int k) {
+        this(k, new PerformanceTracker());
+    }
+
+    public MisraGriesHeavyHitters(int k, PerformanceTracker tracker) {
+        if (k < 2) {
+            throw new IllegalArgumentException("k must be at least 2");
+        }
+        this.k = k;
+        this.tracker = tracker;
+    }
+
+    /**
+     * @return every element with count > n/k, ordered by descending count
+     *         (ties by ascending first position)
+     */
+    public List<MajorityResult> findHeavyHitters(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        List<MajorityResult> results = new ArrayList<>();
+        if (arr.length == 0) {
+            tracker.stopTimer();
+            return results;
+        }
+
+        IntIntHashTable candidates = findCandidates(arr);
+        verifyCandidates(arr, candidates, results);
+
+        results.sort((a, b) -> a.getCount() != b.getCount()
+                ? Integer.compare(b.getCount(), a.getCount())
+                : Integer.compare(a.getFirstPosition(), b.getFirstPosition()));
+
+        tracker.stopTimer();
+        return results;
+    }
+
+    private IntIntHashTable findCandidates(int[] arr) {
+        IntIntHashTable counters = new IntIntHashTable(k - 1);
+
+        for (int value : arr) {
+            int slot = counters.find(value);
+            if (slot >= 0) {
+                counters.setValueAt(slot, counters.valueAt(slot) + 1);
+            } else if (counters.size() < k - 1) {
+                counters.put(value, 1);
+            } else {
+                counters.decrementAll();
+            }
+        }
+
+        tracker.incrementArrayAccesses(arr.length);
+        tracker.incrementComparisons(arr.length);
+        return counters;
+    }
+
+    private void verifyCandidates(int[] arr, IntIntHashTable candidates, List<MajorityResult> results) {
+        // Re-key the table: candidate -> dense index into the exact tallies.
+        int m = candidates.size();
+        int[] elements = new int[m];
+        int next = 0;
+        for (int slot = 0; slot < candidates.capacity(); slot++) {
+            if (candidates.isUsed(slot)) {
+                elements[next] = candidates.keyAt(slot);
+                candidates.setValueAt(slot, next++);
+            }
+        }
+
+        int[] counts = new int[m];
+        int[] firstPos = new int[m];
+        int[] lastPos = new int[m];
+
+        for (int i = 0; i < arr.length; i++) {
+            int slot = candidates.find(arr[i]);
+            if (slot >= 0) {
+                int idx = candidates.valueAt(slot);
+                if (counts[idx]++ == 0) {
+                    firstPos[idx] = i;
+                }
+                lastPos[idx] = i;
+            }
+        }
+
+        tracker.incrementArrayAccesses(arr.length);
+        tracker.incrementComparisons(arr.length + m);
+
+        int threshold = arr.length / k;
+        for (int idx = 0; idx < m; idx++) {
+            if (counts[idx] > threshold) {
+                results.add(new MajorityResult(elements[idx], counts[idx], firstPos[idx], lastPos[idx]));
+            }
+        }
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+}
@@ -0,0 +1,68 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+
+
+/**
+ * Reusable, caller-owned counterpart of {@link MajorityResult}. Passing the same holder to
+ * {@link BoyerMooreMajorityVote#findMajority(int[], MutableMajorityResult)} on every call
+ * keeps a steady-state query loop free of allocations. Not thread-safe.
+ */
+public class MutableMajorityResult {
+
+    private boolean present;
+    private int element;
+    private int count;
+    private int firstPosition;
+    private int lastPosition;
+    private boolean exact;
+
+    public MutableMajorityResult() {
+        clear();
+    }
+
+    public void clear() {
+        present = false;
+        element = 0;
+        count = 0;
+        firstPosition = -1;
+        lastPosition = -1;
+        exact = true;
+    }
+
+    public void set(int element, int count, int firstPos, int lastPos) {
+        set(element, count, firstPos, lastPos, true);
+    }
+
+    // exact == false follows the early-exit contract described on MajorityResult.
+    public void set(int element, int count, int firstPos, int lastPos, boolean exact) {
+        this.present = true;
+        this.element = element;
+        this.count = count;
+        this.firstPosition = firstPos;
+        this.lastPosition = lastPos;
+        this.exact = exact;
+    }
+
+    public boolean isPresent() { return present; }
+    public int getElement() { return element; }
+    public int getCount() { return count; }
+    public int getFirstPosition() { return firstPosition; }
+    public int getLastPosition() { return lastPosition; }
+    public boolean isExact() { return exact; }
+
+    public MajorityResult toMajorityResult() {
+        if (!present) {
+            throw new IllegalStateException("No majority element");
+        }
+        return new MajorityResult(element, count, firstPosition, lastPosition, exact);
+    }
+
+    @Override
+    public String toString() {
+        if (!present) {
+            return "No majority";
+        }
+        return toMajorityResult().toString();
+    }
+}
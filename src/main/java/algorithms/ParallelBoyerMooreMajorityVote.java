@@ -0,0 +1,260 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+import metrics.ConcurrentPerformanceTracker;
+import metrics.MajorityChunkEvent;
+import metrics.MajorityPhaseEvent;
+import metrics.MajorityVoteEvent;
+import metrics.PerformanceTracker;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+
+/**
+ * Fork-join variant of Boyer-Moore: both the voting and the verification pass are
+ * split into chunks of at most {@code threshold} elements, solved independently and
+ * merged pairwise. Per-chunk (candidate, count) states merge like the sequential vote:
+ * equal candidates add up, different ones cancel each other's counts.
+ */
+public class ParallelBoyerMooreMajorityVote {
+
+    public static final int DEFAULT_THRESHOLD = 1 << 16;
+
+    private static final String MODE = "parallel";
+
+    private final ForkJoinPool pool;
+    private final int threshold;
+    private final PerformanceTracker tracker;
+    private final ConcurrentPerformanceTracker chunkTracker;
+
+    public ParallelBoyerMooreMajorityVote() {
+        this(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+    }
+
+    public ParallelBoyerMooreMajorityVote(ForkJoinPool pool, int threshold) {
+        this(pool, threshold, new PerformanceTracker());
+    }
+
+    public ParallelBoyerMooreMajorityVote(ForkJoinPool pool, int threshold, PerformanceTracker tracker) {
+        this(pool, threshold, tracker, null);
+    }
+
+    /**
+     * @param chunkTracker if not null, every leaf task of both passes records its latency and
+     *                     counters here from its worker thread
+     */
+    public ParallelBoyerMooreMajorityVote(ForkJoinPool pool, int threshold, PerformanceTracker tracker,
+                                          ConcurrentPerformanceTracker chunkTracker) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Pool cannot be null");
+        }
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive");
+        }
+        this.pool = pool;
+        this.threshold = threshold;
+        this.tracker = tracker;
+        this.chunkTracker = chunkTracker;
+    }
+
+    public Optional<MajorityResult> findMajority(int[] arr) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+
+        MajorityVoteEvent event = MajorityVoteEvent.beginIfEnabled();
+        tracker.reset();
+        tracker.startTimer();
+
+        if (arr.length == 0) {
+            tracker.stopTimer();
+            if (event != null) {
+                event.complete(0, MODE, false, 0, 0, tracker);
+            }
+            return Optional.empty();
+        }
+
+        MajorityPhaseEvent phase = MajorityPhaseEvent.beginIfEnabled();
+        Vote vote = pool.invoke(new CandidateTask(arr, 0, arr.length, threshold, chunkTracker));
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.CANDIDATE, MODE, arr.length, vote.candidate);
+        }
+
+        phase = MajorityPhaseEvent.beginIfEnabled();
+        Tally tally = pool.invoke(new VerifyTask(arr, 0, arr.length, vote.candidate, threshold, chunkTracker));
+        if (phase != null) {
+            phase.complete(MajorityPhaseEvent.VERIFICATION, MODE, arr.length, vote.candidate);
+        }
+
+        // Counters are recorded in bulk: the chunk tasks must not share the tracker.
+        tracker.incrementArrayAccesses(2L * arr.length);
+        tracker.incrementComparisons(2L * arr.length + 1);
+
+        Optional<MajorityResult> result = Optional.empty();
+        if (tally.count > arr.length / 2) {
+            result = Optional.of(new MajorityResult(vote.candidate, tally.count, tally.first, tally.last));
+        }
+
+        tracker.stopTimer();
+        if (event != null) {
+            event.complete(arr.length, MODE, result.isPresent(), vote.candidate, tally.count, tracker);
+        }
+        return result;
+    }
+
+    public Optional<Integer> findMajorityElement(int[] arr) {
+        return findMajority(arr).map(MajorityResult::getElement);
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+
+    // Null unless supplied at construction.
+    public ConcurrentPerformanceTracker getChunkTracker() {
+        return chunkTracker;
+    }
+
+
+    static final class Vote {
+        final int candidate;
+        final int count;
+
+        Vote(int candidate, int count) {
+            this.candidate = candidate;
+            this.count = count;
+        }
+
+        Vote merge(Vote other) {
+            if (candidate == other.candidate) {
+                return new Vote(candidate, count + other.count);
+            }
+            return count >= other.count
+                    ? new Vote(candidate, count - other.count)
+                    : new Vote(other.candidate, other.count - count);
+        }
+    }
+
+    static final class Tally {
+        final int count;
+        final int first;
+        final int last;
+
+        Tally(int count, int first, int last) {
+            this.count = count;
+            this.first = first;
+            this.last = last;
+        }
+
+        // 'other' always covers the range to the right of this one.
+        Tally merge(Tally other) {
+            if (count == 0) return other;
+            if (other.count == 0) return this;
+            return new Tally(count + other.count, first, other.last);
+        }
+    }
+
+    private static void recordChunk(ConcurrentPerformanceTracker chunkTracker, long start, int length) {
+        chunkTracker.recordLatency(System.nanoTime() - start);
+        chunkTracker.incrementArrayAccesses(length);
+        chunkTracker.incrementComparisons(length);
+    }
+
+    private static final class CandidateTask extends RecursiveTask<Vote> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int threshold;
+        private final ConcurrentPerformanceTracker chunkTracker;
+
+        CandidateTask(int[] arr, int from, int to, int threshold, ConcurrentPerformanceTracker chunkTracker) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+            this.chunkTracker = chunkTracker;
+        }
+
+        @Override
+        protected Vote compute() {
+            if (to - from <= threshold) {
+                MajorityChunkEvent event = MajorityChunkEvent.beginIfEnabled();
+                long start = chunkTracker != null ? System.nanoTime() : 0;
+                long vote = MajorityKernels.voteAuto(arr, from, to);
+                if (chunkTracker != null) {
+                    recordChunk(chunkTracker, start, to - from);
+                }
+                if (event != null) {
+                    event.complete(MajorityPhaseEvent.CANDIDATE, from, to,
+                            MajorityKernels.voteCandidate(vote), MajorityKernels.voteCount(vote));
+                }
+                return new Vote(MajorityKernels.voteCandidate(vote), MajorityKernels.voteCount(vote));
+            }
+
+            int mid = (from + to) >>> 1;
+            CandidateTask left = new CandidateTask(arr, from, mid, threshold, chunkTracker);
+            left.fork();
+            Vote right = new CandidateTask(arr, mid, to, threshold, chunkTracker).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    private static final class VerifyTask extends RecursiveTask<Tally> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] arr;
+        private final int from;
+        private final int to;
+        private final int candidate;
+        private final int threshold;
+        private final ConcurrentPerformanceTracker chunkTracker;
+
+        VerifyTask(int[] arr, int from, int to, int candidate, int threshold,
+                   ConcurrentPerformanceTracker chunkTracker) {
+            this.arr = arr;
+            this.from = from;
+            this.to = to;
+            this.candidate = candidate;
+            this.threshold = threshold;
+            this.chunkTracker = chunkTracker;
+        }
+
+        @Override
+        protected Tally compute() {
+            if (to - from <= threshold) {
+                MajorityChunkEvent event = MajorityChunkEvent.beginIfEnabled();
+                long start = chunkTracker != null ? System.nanoTime() : 0;
+                int count = MajorityKernels.countOccurrences(arr, from, to, candidate);
+                Tally tally = count == 0
+                        ? new Tally(0, -1, -1)
+                        : new Tally(count,
+                                MajorityKernels.indexOf(arr, from, to, candidate),
+                                MajorityKernels.lastIndexOf(arr, from, to, candidate));
+                if (chunkTracker != null) {
+                    recordChunk(chunkTracker, start, to - from);
+                }
+                if (event != null) {
+                    event.complete(MajorityPhaseEvent.VERIFICATION, from, to, candidate, count);
+                }
+                return tally;
+            }
+
+            int mid = (from + to) >>> 1;
+            VerifyTask left = new VerifyTask(arr, from, mid, candidate, threshold, chunkTracker);
+            left.fork();
+            Tally right = new VerifyTask(arr, mid, to, candidate, threshold, chunkTracker).compute();
+            return left.join().merge(right);
+        }
+    }
+}
@@ -0,0 +1,300 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import java.util.Arrays;
+import java.util.Optional;
+
+
+/**
+ * Boyer-Moore specialized for {@code long[]}, {@code short[]}, {@code byte[]} and {@code char[]},
+ * so callers never widen or narrow into a temporary {@code int[]}. Results keep the native
+ * element type.
+ *
+ * <p>Only the vote and verification loops are per type; the majority check and tracker
+ * bookkeeping are shared. {@code byte[]} inputs of {@link #BYTE_TABLE_THRESHOLD} or more
+ * elements use a 256-entry counting table, reused across calls, instead of the two-pass vote;
+ * positions are only scanned for once the table shows a majority. Not thread-safe.
+ */
+public class PrimitiveMajorityVote {
+
+    // Measured crossover: below this the vote's two passes beat one pass of dependent table increments.
+    static final int BYTE_TABLE_THRESHOLD = 1 << 15;
+
+    private final PerformanceTracker tracker;
+    private final int[] byteTable = new int[1 << 8];
+
+
+    /**
+     * Count and positions shared by the typed results; {@code getElement()} is on each subclass.
+     */
+    public abstract static class PrimitiveMajorityResult {
+        private final int count;
+        private final int firstPosition;
+        private final int lastPosition;
+
+        protected PrimitiveMajorityResult(int count, int firstPos, int lastPos) {
+            this.count = count;
+            this.firstPosition = firstPos;
+            this.lastPosition = lastPos;
+        }
+
+        public int getCount() { return count; }
+        public int getFirstPosition() { return firstPosition; }
+        public int getLastPosition() { return lastPosition; }
+
+        abstract String elementText();
+
+        @Override
+        public String toString() {
+            return String.format("Majority: %s (count=%d, first@%d, last@%d)",
+                    elementText(), count, firstPosition, lastPosition);
+        }
+    }
+
+    public static class LongMajorityResult extends PrimitiveMajorityResult {
+        private final long element;
+
+        public LongMajorityResult(long element, int count, int firstPos, int lastPos) {
+            super(count, firstPos, lastPos);
+            this.element = element;
+        }
+
+        public long getElement() { return element; }
+
+        @Override
+        String elementText() { return Long.toString(element); }
+    }
+
+    public static class ShortMajorityResult extends PrimitiveMajorityResult {
+        private final short element;
+
+        public ShortMajorityResult(short element, int count, int firstPos, int lastPos) {
+            super(count, firstPos, lastPos);
+            this.element = element;
+        }
+
+        public short getElement() { return element; }
+
+        @Override
+        String elementText() { return Short.toString(element); }
+    }
+
+    public static class ByteMajorityResult extends PrimitiveMajorityResult {
+        private final byte element;
+
+        public ByteMajorityResult(byte element, int count, int firstPos, int lastPos) {
+            super(count, firstPos, lastPos);
+            this.element = element;
+        }
+
+        public byte getElement() { return element; }
+
+        @Override
+        String elementText() { return Byte.toString(element); }
+    }
+
+    public static class CharMajorityResult extends PrimitiveMajorityResult {
+        private final char element;
+
+        public CharMajorityResult(char element, int count, int firstPos, int lastPos) {
+            super(count, firstPos, lastPos);
+            this.element = element;
+        }
+
+        public char getElement() { return element; }
+
+        @Override
+        String elementText() { return "'" + element + "'"; }
+    }
+
+    public PrimitiveMajorityVote() {
+        this(new PerformanceTracker());
+    }
+
+    public PrimitiveMajorityVote(PerformanceTracker tracker) {
+        this.tracker = tracker;
+    }
+
+
+    public Optional<LongMajorityResult> findMajority(long[] arr) {
+        int n = begin(arr == null ? -1 : arr.length);
+        LongMajorityResult result = null;
+        if (n > 0) {
+            long candidate = arr[0];
+            int votes = 0;
+            for (long value : arr) {
+                if (votes == 0) {
+                    candidate = value;
+                    votes = 1;
+                } else {
+                    votes += value == candidate ? 1 : -1;
+                }
+            }
+
+            int count = 0;
+            int first = -1;
+            int last = -1;
+            for (int i = 0; i < n; i++) {
+                if (arr[i] == candidate) {
+                    first = count++ == 0 ? i : first;
+                    last = i;
+                }
+            }
+            if (isMajority(n, count)) {
+                result = new LongMajorityResult(candidate, count, first, last);
+            }
+            recordTwoPass(n);
+        }
+        return finish(result);
+    }
+
+    public Optional<ShortMajorityResult> findMajority(short[] arr) {
+        int n = begin(arr == null ? -1 : arr.length);
+        ShortMajorityResult result = null;
+        if (n > 0) {
+            short candidate = arr[0];
+            int votes = 0;
+            for (short value : arr) {
+                if (votes == 0) {
+                    candidate = value;
+                    votes = 1;
+                } else {
+                    votes += value == candidate ? 1 : -1;
+                }
+            }
+
+            int count = 0;
+            int first = -1;
+            int last = -1;
+            for (int i = 0; i < n; i++) {
+                if (arr[i] == candidate) {
+                    first = count++ == 0 ? i : first;
+                    last = i;
+                }
+            }
+            if (isMajority(n, count)) {
+                result = new ShortMajorityResult(candidate, count, first, last);
+            }
+            recordTwoPass(n);
+        }
+        return finish(result);
+    }
+
+    public Optional<CharMajorityResult> findMajority(char[] arr) {
+        int n = begin(arr == null ? -1 : arr.length);
+        CharMajorityResult result = null;
+        if (n > 0) {
+            char candidate = arr[0];
+            int votes = 0;
+            for (char value : arr) {
+                if (votes == 0) {
+                    candidate = value;
+                    votes = 1;
+                } else {
+                    votes += value == candidate ? 1 : -1;
+                }
+            }
+
+            int count = 0;
+            int first = -1;
+            int last = -1;
+            for (int i = 0; i < n; i++) {
+                if (arr[i] == candidate) {
+                    first = count++ == 0 ? i : first;
+                    last = i;
+                }
+            }
+            if (isMajority(n, count)) {
+                result = new CharMajorityResult(candidate, count, first, last);
+            }
+            recordTwoPass(n);
+        }
+        return finish(result);
+    }
+
+    public Optional<ByteMajorityResult> findMajority(byte[] arr) {
+        int n = begin(arr == null ? -1 : arr.length);
+        ByteMajorityResult result = null;
+        if (n >= BYTE_TABLE_THRESHOLD) {
+            Arrays.fill(byteTable, 0);
+            for (byte value : arr) {
+                byteTable[value & 0xFF]++;
+            }
+            int best = 0;
+            for (int i = 1; i < byteTable.length; i++) {
+                best = byteTable[i] > byteTable[best] ? i : best;
+            }
+
+            if (isMajority(n, byteTable[best])) {
+                byte candidate = (byte) best;
+                int first = 0;
+                while (arr[first] != candidate) first++;
+                int last = n - 1;
+                while (arr[last] != candidate) last--;
+                result = new ByteMajorityResult(candidate, byteTable[best], first, last);
+            }
+            recordTable(n);
+            return finish(result);
+        }
+        if (n > 0) {
+            byte candidate = arr[0];
+            int votes = 0;
+            for (byte value : arr) {
+                if (votes == 0) {
+                    candidate = value;
+                    votes = 1;
+                } else {
+                    votes += value == candidate ? 1 : -1;
+                }
+            }
+
+            int count = 0;
+            int first = -1;
+            int last = -1;
+            for (int i = 0; i < n; i++) {
+                if (arr[i] == candidate) {
+                    first = count++ == 0 ? i : first;
+                    last = i;
+                }
+            }
+            if (isMajority(n, count)) {
+                result = new ByteMajorityResult(candidate, count, first, last);
+            }
+            recordTwoPass(n);
+        }
+        return finish(result);
+    }
+
+    // Validates the array (length -1 for null) and starts timing; returns n.
+    private int begin(int length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        tracker.reset();
+        tracker.startTimer();
+        return length;
+    }
+
+    private static boolean isMajority(int n, int count) {
+        return count > n / 2;
+    }
+
+    private <R> Optional<R> finish(R result) {
+        tracker.stopTimer();
+        return Optional.ofNullable(result);
+    }
+
+    private void recordTwoPass(int n) {
+        tracker.incrementArrayAccesses(2L * n);
+        tracker.incrementComparisons(2L * n + 1);
+    }
+
+    private void recordTable(int n) {
+        tracker.incrementArrayAccesses(n);
+        tracker.incrementComparisons(1);
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+}
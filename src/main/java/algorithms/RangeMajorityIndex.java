@@ -0,0 +1,148 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+import metrics.PerformanceTracker;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Prebuilt index answering "does arr[l, r) have a majority element?" in O(log n).
+ *
+ * <p>A segment tree stores the Boyer-Moore (candidate, count) summary of every node, so the
+ * candidate for any range is the merge of O(log n) node summaries. The candidate is then
+ * verified exactly against a sorted array of (value, position) pairs packed into longs,
+ * which also yields the absolute first and last positions.
+ *
+ * <p>Build time and index size (in bytes, reported as memory allocations) are recorded on
+ * the tracker. The indexed array must not be modified afterwards.
+ */
+public class RangeMajorityIndex {
+
+    // Largest input whose tree arrays (2 * leaves entries, leaves a power of two >= n) fit in an int index.
+    static final int MAX_LENGTH = 1 << 29;
+
+    private final int n;
+    private final int leaves;
+    private final int[] treeCandidate;
+    private final int[] treeCount;
+    private final long[] positions;
+    private final PerformanceTracker tracker;
+
+    public RangeMajorityIndex(int[] arr) {
+        this(arr, new PerformanceTracker());
+    }
+
+    public RangeMajorityIndex(int[] arr, PerformanceTracker tracker) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        n = arr.length;
+        leaves = leafCount(n);
+        this.tracker = tracker;
+        tracker.reset();
+        tracker.startTimer();
+
+        treeCandidate = new int[2 * leaves];
+        treeCount = new int[2 * leaves];
+
+        for (int i = 0; i < n; i++) {
+            treeCandidate[leaves + i] = arr[i];
+            treeCount[leaves + i] = 1;
+        }
+        for (int node = leaves - 1; node >= 1; node--) {
+            long vote = MajorityKernels.mergeVotes(
+                    MajorityKernels.packVote(treeCandidate[2 * node], treeCount[2 * node]),
+                    MajorityKernels.packVote(treeCandidate[2 * node + 1], treeCount[2 * node + 1]));
+            treeCandidate[node] = MajorityKernels.voteCandidate(vote);
+            treeCount[node] = MajorityKernels.voteCount(vote);
+        }
+
+        // (value << 32 | position) sorts by value, then position.
+        positions = new long[n];
+        for (int i = 0; i < n; i++) {
+            positions[i] = ((long) arr[i] << 32) | i;
+        }
+        Arrays.sort(positions);
+
+        tracker.incrementArrayAccesses(2L * n);
+        tracker.stopTimer();
+    }
+
+    // Smallest power of two >= n (1 for an empty array).
+    static int leafCount(int n) {
+        if (n > MAX_LENGTH) {
+            throw new IllegalArgumentException("Array of " + n + " elements exceeds the index limit of " + MAX_LENGTH);
+        }
+        return Integer.highestOneBit(Math.max(1, n) * 2 - 1);
+    }
+
+    public Optional<MajorityResult> query(int from, int to) {
+        MutableMajorityResult out = new MutableMajorityResult();
+        if (query(from, to, out)) {
+            return Optional.of(out.toMajorityResult());
+        }
+        return Optional.empty();
+    }
+
+    // Majority of [from, to) with absolute positions, written into 'out'.
+    public boolean query(int from, int to, MutableMajorityResult out) {
+        Objects.checkFromToIndex(from, to, n);
+        out.clear();
+        if (from == to) {
+            return false;
+        }
+
+        long vote = MajorityKernels.packVote(0, 0);
+        for (int lo = from + leaves, hi = to + leaves; lo < hi; lo >>>= 1, hi >>>= 1) {
+            if ((lo & 1) == 1) {
+                vote = MajorityKernels.mergeVotes(vote, MajorityKernels.packVote(treeCandidate[lo], treeCount[lo]));
+                lo++;
+            }
+            if ((hi & 1) == 1) {
+                hi--;
+                vote = MajorityKernels.mergeVotes(vote, MajorityKernels.packVote(treeCandidate[hi], treeCount[hi]));
+            }
+        }
+
+        int candidate = MajorityKernels.voteCandidate(vote);
+        long base = (long) candidate << 32;
+        int first = lowerBound(base | from);
+        int end = lowerBound(base | to);
+        int count = end - first;
+
+        if (count > (to - from) / 2) {
+            out.set(candidate, count, (int) positions[first], (int) positions[end - 1]);
+        }
+        return out.isPresent();
+    }
+
+    private int lowerBound(long key) {
+        int lo = 0;
+        int hi = positions.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (positions[mid] < key) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    public int size() {
+        return n;
+    }
+
+    public long getMemoryBytes() {
+        return (long) treeCandidate.length * Integer.BYTES
+                + (long) treeCount.length * Integer.BYTES
+                + (long) positions.length * Long.BYTES;
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+}
@@ -0,0 +1,95 @@
+package algorithms;
+
+import java.util.OptionalInt;
+
+
+/**
+ * Majority element of the last {@code window} values of a stream, maintained in O(1) per
+ * {@link #push(int)}. Values sit in a primitive ring buffer and their in-window counts in an
+ * {@link IntIntHashTable}.
+ *
+ * <p>Each push changes at most two counts: the new value goes up, the evicted one goes down.
+ * So the only value that can become the majority is the one just pushed, and the only check
+ * the current majority needs is its own count. This is the verify half of Boyer-Moore with
+ * the candidate kept exact instead of voted.
+ */
+public class SlidingWindowMajority {
+
+    private final int window;
+    private final int[] ring;
+    private final IntIntHashTable counts;
+    private int head;
+    private int size;
+    private long elementsSeen;
+
+    private boolean hasMajority;
+    private int majority;
+
+    public SlidingWindowMajority(int window) {
+        if (window < 1) {
+            throw new IllegalArgumentException("Window must be positive");
+        }
+        this.window = window;
+        this.ring = new int[window];
+        this.counts = new IntIntHashTable(Math.min(window, 1024));
+    }
+
+    public void push(int value) {
+        if (size == window) {
+            int evicted = ring[head];
+            if (counts.addTo(evicted, -1) == 0) {
+                counts.remove(evicted);
+            }
+            ring[head] = value;
+            head = head + 1 == window ? 0 : head + 1;
+        } else {
+            int tail = head + size;
+            ring[tail >= window ? tail - window : tail] = value;
+            size++;
+        }
+        elementsSeen++;
+
+        int valueCount = counts.addTo(value, 1);
+        if (hasMajority && counts.get(majority, 0) <= size / 2) {
+            hasMajority = false;
+        }
+        if (!hasMajority && valueCount > size / 2) {
+            hasMajority = true;
+            majority = value;
+        }
+    }
+
+    public OptionalInt majority() {
+        return hasMajority ? OptionalInt.of(majority) : OptionalInt.empty();
+    }
+
+    public boolean hasMajority() {
+        return hasMajority;
+    }
+
+    // Only meaningful when hasMajority() is true.
+    public int getMajority() {
+        return majority;
+    }
+
+    public int majorityCount() {
+        return hasMajority ? counts.get(majority, 0) : 0;
+    }
+
+    // In-window occurrences of any value.
+    public int count(int value) {
+        return counts.get(value, 0);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int getWindow() {
+        return window;
+    }
+
+    public long getElementsSeen() {
+        return elementsSeen;
+    }
+}
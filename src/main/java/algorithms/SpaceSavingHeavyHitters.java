@@ -0,0 +1,357 @@
+package algorithms;
+
+import algorithms.BoyerMooreMajorityVote.MajorityResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * Space-Saving approximate heavy hitters in fixed memory: at most {@code capacity} monitored
+ * (element, count, error) entries, kept in a primitive min-heap on count with an
+ * {@link IntIntHashTable} from element to heap position. An unmonitored element replaces the
+ * minimum entry and inherits its count as error, so for every reported element
+ * {@code count - error <= true count <= count}, and any element occurring more than
+ * N / capacity times is monitored.
+ *
+ * <p>Summaries over disjoint chunks (e.g. one per thread) can be merged. An optional
+ * {@link CountMinSketch} fed the same stream tightens the reported upper bounds.
+ * Not thread-safe.
+ */
+public class SpaceSavingHeavyHitters {
+
+    private final int capacity;
+    private final int[] keys;
+    private final long[] counts;
+    private final long[] errors;
+    private final IntIntHashTable index;
+    private final CountMinSketch sketch;
+    private int size;
+    private long streamLength;
+
+
+    /**
+     * An approximate frequency: the true count lies in
+     * [{@link #getGuaranteedCount()}, {@link #getCount()}].
+     */
+    public static class HeavyHitter {
+        private final int element;
+        private final long count;
+        private final long error;
+
+        public HeavyHitter(int element, long count, long error) {
+            this.element = element;
+            this.count = count;
+            this.error = error;
+        }
+
+        public int getElement() { return element; }
+        public long getCount() { return count; }
+        public long getError() { return error; }
+        public long getGuaranteedCount() { return count - error; }
+
+        @Override
+        public String toString() {
+            return String.format("HeavyHitter: %d (count=%d, error<=%d)", element, count, error);
+        }
+    }
+
+    public SpaceSavingHeavyHitters(int capacity) {
+        this(capacity, null);
+    }
+
+    /**
+     * @param sketch empty sketch updated alongside the summary, or null
+     */
+    public SpaceSavingHeavyHitters(int capacity, CountMinSketch sketch) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.keys = new int[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.index = new IntIntHashTable(capacity);
+        this.sketch = sketch;
+    }
+
+    public void add(int value) {
+        streamLength++;
+        if (sketch != null) {
+            sketch.add(value, 1);
+        }
+
+        int slot = index.find(value);
+        if (slot >= 0) {
+            int pos = index.valueAt(slot);
+            counts[pos]++;
+            siftDown(pos);
+        } else if (size < capacity) {
+            int pos = size++;
+            keys[pos] = value;
+            counts[pos] = 1;
+            errors[pos] = 0;
+            index.put(value, pos);
+            siftUp(pos);
+        } else {
+            // Evict the minimum; the newcomer may have occurred up to min times unseen.
+            index.remove(keys[0]);
+            long min = counts[0];
+            keys[0] = value;
+            counts[0] = min + 1;
+            errors[0] = min;
+            index.put(value, 0);
+            siftDown(0);
+        }
+    }
+
+    public void add(int[] arr) {
+        add(arr, 0, arr == null ? 0 : arr.length);
+    }
+
+    public void add(int[] arr, int offset, int length) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        Objects.checkFromIndexSize(offset, length, arr.length);
+        for (int i = offset; i < offset + length; i++) {
+            add(arr[i]);
+        }
+    }
+
+    /**
+     * Folds a summary of a disjoint part of the stream into this one (mergeable Space-Saving):
+     * an element missing from a full summary is charged that summary's minimum count, as both
+     * count and error, and the {@code capacity} largest combined entries are kept.
+     * 'other' is left unchanged.
+     */
+    public void merge(SpaceSavingHeavyHitters other) {
+        if (other == null) {
+            throw new IllegalArgumentException("Summary cannot be null");
+        }
+        if (other.capacity != capacity) {
+            throw new IllegalArgumentException("Summaries must have the same capacity");
+        }
+        if ((sketch == null) != (other.sketch == null)) {
+            throw new IllegalArgumentException("Either both summaries or neither must have a sketch");
+        }
+
+        long thisMin = size == capacity ? counts[0] : 0;
+        long otherMin = other.size == other.capacity ? other.counts[0] : 0;
+
+        int total = 0;
+        int[] mergedKeys = new int[size + other.size];
+        long[] mergedCounts = new long[mergedKeys.length];
+        long[] mergedErrors = new long[mergedKeys.length];
+        for (int pos = 0; pos < size; pos++) {
+            int slot = other.index.find(keys[pos]);
+            int otherPos = slot >= 0 ? other.index.valueAt(slot) : -1;
+            mergedKeys[total] = keys[pos];
+            mergedCounts[total] = counts[pos] + (otherPos >= 0 ? other.counts[otherPos] : otherMin);
+            mergedErrors[total] = errors[pos] + (otherPos >= 0 ? other.errors[otherPos] : otherMin);
+            total++;
+        }
+        for (int pos = 0; pos < other.size; pos++) {
+            if (index.find(other.keys[pos]) < 0) {
+                mergedKeys[total] = other.keys[pos];
+                mergedCounts[total] = other.counts[pos] + thisMin;
+                mergedErrors[total] = other.errors[pos] + thisMin;
+                total++;
+            }
+        }
+
+        long[] order = sortKeys(mergedCounts, total);
+        Arrays.sort(order);
+
+        size = Math.min(total, capacity);
+        for (int pos = 0; pos < size; pos++) {
+            int from = total - 1 - (int) order[total - 1 - pos];
+            keys[pos] = mergedKeys[from];
+            counts[pos] = mergedCounts[from];
+            errors[pos] = mergedErrors[from];
+        }
+        rebuildHeap();
+
+        streamLength += other.streamLength;
+        if (sketch != null) {
+            sketch.merge(other.sketch);
+        }
+    }
+
+    // count << 32 | (total - 1 - i), so an ascending primitive sort ends with the highest counts,
+    // ties broken towards lower i. Counts past 31 bits are replaced by their distinct-value rank.
+    private static long[] sortKeys(long[] counts, int total) {
+        long max = 0;
+        for (int i = 0; i < total; i++) {
+            max = Math.max(max, counts[i]);
+        }
+        long[] distinct = null;
+        int distinctCount = 0;
+        if (max > Integer.MAX_VALUE) {
+            distinct = Arrays.copyOf(counts, total);
+            Arrays.sort(distinct);
+            for (int i = 0; i < total; i++) {
+                if (distinctCount == 0 || distinct[i] != distinct[distinctCount - 1]) {
+                    distinct[distinctCount++] = distinct[i];
+                }
+            }
+        }
+
+        long[] sortKeys = new long[total];
+        for (int i = 0; i < total; i++) {
+            long rank = distinct == null ? counts[i] : Arrays.binarySearch(distinct, 0, distinctCount, counts[i]);
+            sortKeys[i] = rank << 32 | (total - 1 - i);
+        }
+        return sortKeys;
+    }
+
+    // Summary restored from serialized entries (see MajoritySummary); the sketch is not kept.
+    static SpaceSavingHeavyHitters ofEntries(int capacity, int[] keys, long[] counts, long[] errors,
+                                             int size, long streamLength) {
+        if (size > capacity) {
+            throw new IllegalArgumentException("Summary holds " + size + " entries, capacity is " + capacity);
+        }
+        SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(capacity);
+        System.arraycopy(keys, 0, summary.keys, 0, size);
+        System.arraycopy(counts, 0, summary.counts, 0, size);
+        System.arraycopy(errors, 0, summary.errors, 0, size);
+        summary.size = size;
+        summary.streamLength = streamLength;
+        summary.rebuildHeap();
+        return summary;
+    }
+
+    // Heap-orders keys/counts/errors[0, size) and re-indexes them.
+    private void rebuildHeap() {
+        index.clear();
+        for (int pos = size / 2 - 1; pos >= 0; pos--) {
+            siftDown(pos);
+        }
+        for (int pos = 0; pos < size; pos++) {
+            index.put(keys[pos], pos);
+        }
+    }
+
+    int keyAt(int pos) {
+        return keys[pos];
+    }
+
+    long countAt(int pos) {
+        return counts[pos];
+    }
+
+    long errorAt(int pos) {
+        return errors[pos];
+    }
+
+    /**
+     * Up to k monitored elements with the largest counts, descending. With a sketch, each
+     * upper bound is the smaller of the summary count and the sketch estimate.
+     */
+    public List<HeavyHitter> topK(int k) {
+        if (k < 1) {
+            throw new IllegalArgumentException("k must be positive");
+        }
+
+        List<HeavyHitter> all = new ArrayList<>(size);
+        for (int pos = 0; pos < size; pos++) {
+            long count = counts[pos];
+            long guaranteed = count - errors[pos];
+            if (sketch != null) {
+                count = Math.min(count, sketch.estimate(keys[pos]));
+            }
+            all.add(new HeavyHitter(keys[pos], count, count - guaranteed));
+        }
+        all.sort((a, b) -> a.getCount() != b.getCount()
+                ? Long.compare(b.getCount(), a.getCount())
+                : Integer.compare(a.getElement(), b.getElement()));
+        return all.size() <= k ? all : new ArrayList<>(all.subList(0, k));
+    }
+
+    /**
+     * Fallback stage for a failed majority check: a verified majority is returned alone with
+     * an exact count; otherwise one Space-Saving pass reports the approximate top k.
+     */
+    public static List<HeavyHitter> findMajorityOrTopK(int[] arr, int k, int capacity) {
+        Optional<MajorityResult> majority = BoyerMooreMajorityVote.uninstrumented().findMajority(arr);
+        if (majority.isPresent()) {
+            return Collections.singletonList(
+                    new HeavyHitter(majority.get().getElement(), majority.get().getCount(), 0));
+        }
+        SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(capacity);
+        summary.add(arr);
+        return summary.topK(k);
+    }
+
+    // Largest possible overcount of any element; 0 until the summary first fills up.
+    public long getMaxError() {
+        return size == capacity ? counts[0] : 0;
+    }
+
+    private void siftUp(int pos) {
+        int key = keys[pos];
+        long count = counts[pos];
+        long error = errors[pos];
+        while (pos > 0) {
+            int parent = (pos - 1) >>> 1;
+            if (counts[parent] <= count) {
+                break;
+            }
+            moveTo(parent, pos);
+            pos = parent;
+        }
+        place(pos, key, count, error);
+    }
+
+    private void siftDown(int pos) {
+        int key = keys[pos];
+        long count = counts[pos];
+        long error = errors[pos];
+        int half = size >>> 1;
+        while (pos < half) {
+            int child = 2 * pos + 1;
+            if (child + 1 < size && counts[child + 1] < counts[child]) {
+                child++;
+            }
+            if (count <= counts[child]) {
+                break;
+            }
+            moveTo(child, pos);
+            pos = child;
+        }
+        place(pos, key, count, error);
+    }
+
+    private void moveTo(int from, int to) {
+        keys[to] = keys[from];
+        counts[to] = counts[from];
+        errors[to] = errors[from];
+        index.put(keys[to], to);
+    }
+
+    private void place(int pos, int key, long count, long error) {
+        keys[pos] = key;
+        counts[pos] = count;
+        errors[pos] = error;
+        index.put(key, pos);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getStreamLength() {
+        return streamLength;
+    }
+
+    public CountMinSketch getSketch() {
+        return sketch;
+    }
+}
@@ -0,0 +1,162 @@
+package algorithms;
+
+import algorithms.MappedFileMajorityVote.FileMajorityResult;
+import metrics.PerformanceTracker;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+
+/**
+ * Boyer-Moore over delimited decimal text (see {@link IntTextParser}) that is never held in
+ * memory. The voting pass feeds parsed batches into a {@link MajorityAccumulator}; the
+ * verification pass re-parses the file, or, for a one-shot stream such as stdin, replays a
+ * little-endian int32 spill file written during the first pass.
+ */
+public class TextStreamMajorityVote {
+
+    public static final int DEFAULT_BATCH_ELEMENTS = 1 << 16;
+
+    private final int batchElements;
+    private final PerformanceTracker tracker;
+    private long bytesRead;
+    private long elementCount;
+
+    public TextStreamMajorityVote() {
+        this(DEFAULT_BATCH_ELEMENTS, new PerformanceTracker());
+    }
+
+    public TextStreamMajorityVote(int batchElements, PerformanceTracker tracker) {
+        if (batchElements < 1 || batchElements > Integer.MAX_VALUE / Integer.BYTES) {
+            throw new IllegalArgumentException("Batch size must be between 1 and "
+                    + Integer.MAX_VALUE / Integer.BYTES + " elements");
+        }
+        this.batchElements = batchElements;
+        this.tracker = tracker;
+    }
+
+    // Seekable input: the file is parsed twice.
+    public Optional<FileMajorityResult> findMajority(Path file) throws IOException {
+        if (file == null) {
+            throw new IllegalArgumentException("File cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int[] batch = new int[batchElements];
+        MajorityAccumulator acc = new MajorityAccumulator();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            IntTextParser parser = new IntTextParser(channel);
+            for (int n; (n = parser.next(batch)) >= 0; ) {
+                acc.add(batch, 0, n);
+            }
+            bytesRead = parser.getBytesRead();
+        }
+
+        if (acc.hasCandidate()) {
+            acc.startVerification();
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                IntTextParser parser = new IntTextParser(channel);
+                for (int n; (n = parser.next(batch)) >= 0; ) {
+                    acc.verify(batch, 0, n);
+                }
+            }
+        }
+
+        return finish(acc);
+    }
+
+    /**
+     * One-shot input: parsed values are also written to a temporary binary file, which the
+     * verification pass reads back (4 bytes per value, usually far smaller than the text).
+     * The channel is not closed.
+     */
+    public Optional<FileMajorityResult> findMajority(ReadableByteChannel in) throws IOException {
+        if (in == null) {
+            throw new IllegalArgumentException("Channel cannot be null");
+        }
+
+        tracker.reset();
+        tracker.startTimer();
+
+        int[] batch = new int[batchElements];
+        ByteBuffer spillBytes = ByteBuffer.allocateDirect(batchElements * Integer.BYTES)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        IntBuffer spillInts = spillBytes.asIntBuffer();
+        MajorityAccumulator acc = new MajorityAccumulator();
+
+        Path spill = Files.createTempFile("majority-spill", ".bin");
+        try (FileChannel spillChannel = FileChannel.open(spill,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.DELETE_ON_CLOSE)) {
+            IntTextParser parser = new IntTextParser(in);
+            for (int n; (n = parser.next(batch)) >= 0; ) {
+                acc.add(batch, 0, n);
+                spillInts.clear();
+                spillInts.put(batch, 0, n);
+                spillBytes.clear().limit(n * Integer.BYTES);
+                while (spillBytes.hasRemaining()) {
+                    spillChannel.write(spillBytes);
+                }
+            }
+            bytesRead = parser.getBytesRead();
+
+            if (acc.hasCandidate()) {
+                acc.startVerification();
+                spillChannel.position(0);
+                for (long remaining = acc.getElementCount(); remaining > 0; ) {
+                    int n = (int) Math.min(batchElements, remaining);
+                    spillBytes.clear().limit(n * Integer.BYTES);
+                    while (spillBytes.hasRemaining()) {
+                        if (spillChannel.read(spillBytes) < 0) {
+                            throw new EOFException("Spill file " + spill + " is truncated");
+                        }
+                    }
+                    acc.verify(spillInts, 0, n);
+                    remaining -= n;
+                }
+            }
+        } finally {
+            Files.deleteIfExists(spill);
+        }
+
+        return finish(acc);
+    }
+
+    private Optional<FileMajorityResult> finish(MajorityAccumulator acc) {
+        long elements = acc.getElementCount();
+        elementCount = elements;
+        Optional<FileMajorityResult> result = Optional.empty();
+        if (acc.isMajorityVerified()) {
+            result = Optional.of(new FileMajorityResult(acc.getCandidate(), acc.getVerifiedCount(),
+                    acc.getFirstPosition(), acc.getLastPosition()));
+        }
+
+        tracker.incrementArrayAccesses(2 * elements);
+        tracker.incrementComparisons(2 * elements + 1);
+        tracker.stopTimer();
+        return result;
+    }
+
+    // Text bytes consumed by the last call (first pass only).
+    public long getBytesRead() {
+        return bytesRead;
+    }
+
+    // Values parsed by the last call.
+    public long getElementCount() {
+        return elementCount;
+    }
+
+    public PerformanceTracker getTracker() {
+        return tracker;
+    }
+}
@@ -0,0 +1,15 @@
+package algorithms;
+
+
+/**
+ * Candidate and count passes behind the uninstrumented verify path, so a faster
+ * implementation (e.g. the Vector API kernels of the {@code vector} profile) can be swapped
+ * in without touching {@link BoyerMooreMajorityVote}. Ranges are [from, to) with from < to.
+ */
+public interface VoteKernels {
+
+    // Packed vote state, see MajorityKernels.packVote.
+    long vote(int[] arr, int from, int to);
+
+    int countOccurrences(int[] arr, int from, int to, int value);
+}
@@ -1,10 +1,21 @@
 package cli;
 import algorithms.BoyerMooreMajorityVote;
+import algorithms.MappedFileMajorityVote;
+import algorithms.ParallelBoyerMooreMajorityVote;
+import algorithms.SpaceSavingHeavyHitters;
+import algorithms.TextStreamMajorityVote;
+import metrics.AllocationProbe;
 import metrics.PerformanceTracker;
+import java.io.FileDescriptor;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.concurrent.ForkJoinPool;
 
 
 public class BenchmarkRunner {
@@ -13,7 +24,7 @@ public class BenchmarkRunner {
     private static final int WARMUP_ITERATIONS = 5;
     private static final int BENCHMARK_ITERATIONS = 10;
 
-    enum InputType {
+    public enum InputType {
         RANDOM_WITH_MAJORITY("Random array with majority element"),
         ALL_SAME("All elements identical (best case)"),
         NO_MAJORITY("No majority element exists"),
@@ -39,6 +50,15 @@ public class BenchmarkRunner {
             runner.runInteractiveMode();
         } else if (args.length > 0 && args[0].equals("--full")) {
             runner.runFullBenchmarkSuite();
+        } else if (args.length > 1 && args[0].equals("--file")) {
+            boolean parallel = args.length > 2 && args[2].equals("--parallel");
+            runner.runFileBenchmark(Paths.get(args[1]), parallel);
+        } else if (args.length > 1 && args[0].equals("--stream")) {
+            runner.runStreamBenchmark(args[1]);
+        } else if (args.length > 0 && args[0].equals("--shard")) {
+            System.exit(ShardTool.run(Arrays.copyOfRange(args, 1, args.length)));
+        } else if (args.length > 0 && args[0].equals("--gate")) {
+            System.exit(RegressionGate.run(Arrays.copyOfRange(args, 1, args.length)));
         } else {
             runner.runQuickBenchmark();
         }
@@ -57,6 +77,62 @@ public class BenchmarkRunner {
         System.out.println("Quick benchmark complete!");
         System.out.println("Run with --full for comprehensive benchmarks");
         System.out.println("Run with --interactive for custom testing");
+        System.out.println("Run with --file <int32-le file> [--parallel] for memory-mapped input");
+        System.out.println("Run with --stream <text file | -> for comma/newline-separated integers");
+        System.out.println("Run with --shard summarize|merge|count|verify ... for multi-node runs");
+        System.out.println("Run with --gate record|compare <baseline.csv> for the regression gate");
+    }
+
+    // "-" reads stdin (spilled to a temp file for verification); anything else is re-read.
+    public void runStreamBenchmark(String source) {
+        System.out.println("=== Boyer-Moore Majority Vote - Text Stream ===\n");
+
+        TextStreamMajorityVote algo = new TextStreamMajorityVote();
+        try {
+            var result = source.equals("-")
+                    ? algo.findMajority(new FileInputStream(FileDescriptor.in).getChannel())
+                    : algo.findMajority(Paths.get(source));
+            PerformanceTracker tracker = algo.getTracker();
+            long elements = algo.getElementCount();
+
+            System.out.printf("  Source: %s (%d bytes, %d integers)\n",
+                    source.equals("-") ? "stdin" : source, algo.getBytesRead(), elements);
+            System.out.printf("  Result: %s\n",
+                    result.isPresent() ? result.get() : "No majority");
+            System.out.printf("  Time: %.2f ms\n", tracker.getExecutionTimeMs());
+            System.out.printf("  Throughput: %.2f MB/s (text bytes / time, both passes)\n",
+                    algo.getBytesRead() * 1000.0 / Math.max(1, tracker.getExecutionTime()));
+            printAllocation("stream", tracker.getMemoryAllocations(), tracker.getGcCount(), elements);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error reading " + source + ": " + e.getMessage());
+        }
+    }
+
+
+    public void runFileBenchmark(Path file, boolean parallel) {
+        System.out.println("=== Boyer-Moore Majority Vote - Memory-Mapped File ===\n");
+
+        try {
+            long bytes = Files.size(file);
+            MappedFileMajorityVote algo = new MappedFileMajorityVote(
+                    MappedFileMajorityVote.DEFAULT_SEGMENT_ELEMENTS,
+                    parallel ? ForkJoinPool.commonPool() : null);
+
+            var result = algo.findMajority(file);
+            PerformanceTracker tracker = algo.getTracker();
+
+            System.out.printf("  File: %s (%d elements)\n", file, bytes / Integer.BYTES);
+            System.out.printf("  Mode: %s\n", parallel ? "parallel segments" : "sequential segments");
+            System.out.printf("  Result: %s\n",
+                    result.isPresent() ? result.get() : "No majority");
+            System.out.printf("  Time: %.2f ms\n", tracker.getExecutionTimeMs());
+            System.out.printf("  Throughput: %.2f GB/s (file size / time, both passes)\n",
+                    bytes / (double) Math.max(1, tracker.getExecutionTime()));
+            printAllocation(parallel ? "calling thread" : "sequential", tracker.getMemoryAllocations(),
+                    tracker.getGcCount(), bytes / Integer.BYTES);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error reading " + file + ": " + e.getMessage());
+        }
     }
 
     public void runFullBenchmarkSuite() {
@@ -73,6 +149,8 @@ public class BenchmarkRunner {
                 long totalTime = 0;
                 long totalComparisons = 0;
                 long totalAccesses = 0;
+                long totalAllocated = 0;
+                long totalGcCount = 0;
 
 
                 for (int i = 0; i < WARMUP_ITERATIONS; i++) {
@@ -90,6 +168,8 @@ public class BenchmarkRunner {
                     totalTime += tracker.getExecutionTime();
                     totalComparisons += tracker.getComparisons();
                     totalAccesses += tracker.getArrayAccesses();
+                    totalAllocated += tracker.getMemoryAllocations();
+                    totalGcCount += tracker.getGcCount();
                 }
 
                 double avgTime = totalTime / (double) BENCHMARK_ITERATIONS;
@@ -101,6 +181,9 @@ public class BenchmarkRunner {
                 System.out.printf("  Avg Array Accesses: %.0f\n", avgAccesses);
                 System.out.printf("  Comparisons/n: %.2f\n", avgComparisons / size);
                 System.out.printf("  Accesses/n: %.2f\n", avgAccesses / size);
+                System.out.printf("  Bytes allocated/n: %.3f\n",
+                        totalAllocated / (double) BENCHMARK_ITERATIONS / size);
+                System.out.printf("  GC collections: %d\n", totalGcCount);
 
                 aggregateTracker.saveSnapshot(size);
             }
@@ -186,7 +269,10 @@ public class BenchmarkRunner {
         if (result.isPresent()) {
             System.out.println("Result: " + result.get());
         } else {
-            System.out.println("No majority element found");
+            System.out.println("No majority element found; approximate top 3:");
+            for (var hitter : SpaceSavingHeavyHitters.findMajorityOrTopK(arr, 3, 64)) {
+                System.out.println("  " + hitter);
+            }
         }
 
         algo.printStatistics();
@@ -212,9 +298,9 @@ public class BenchmarkRunner {
         scanner.nextLine();
 
         System.out.println("\n=== Comparing Input Distributions ===\n");
-        System.out.printf("%-40s %15s %15s %15s\n",
-                "Distribution", "Time (μs)", "Comparisons", "Accesses");
-        System.out.println("-".repeat(85));
+        System.out.printf("%-40s %15s %15s %15s %15s\n",
+                "Distribution", "Time (μs)", "Comparisons", "Accesses", "Bytes/n");
+        System.out.println("-".repeat(101));
 
         for (InputType type : InputType.values()) {
             int[] arr = generateInput(size, type);
@@ -222,11 +308,12 @@ public class BenchmarkRunner {
             algo.findMajorityElement(arr);
 
             PerformanceTracker tracker = algo.getTracker();
-            System.out.printf("%-40s %15.2f %15d %15d\n",
+            System.out.printf("%-40s %15.2f %15d %15d %15.3f\n",
                     type.getDescription(),
                     tracker.getExecutionTime() / 1000.0,
                     tracker.getComparisons(),
-                    tracker.getArrayAccesses());
+                    tracker.getArrayAccesses(),
+                    tracker.getMemoryAllocations() / (double) size);
         }
     }
 
@@ -245,10 +332,31 @@ public class BenchmarkRunner {
                 tracker.getComparisons(), tracker.getComparisons() / (double) size);
         System.out.printf("  Array Accesses: %d (%.2f per element)\n",
                 tracker.getArrayAccesses(), tracker.getArrayAccesses() / (double) size);
+        printAllocation("instrumented", tracker.getMemoryAllocations(), tracker.getGcCount(), size);
+
+        // Same tracker type, kernels only; allocation tracking stays on so it can be reported.
+        BoyerMooreMajorityVote uninstrumented = new BoyerMooreMajorityVote(new PerformanceTracker(), false);
+        uninstrumented.findMajorityElementAsInt(arr);
+        PerformanceTracker kernelTracker = uninstrumented.getTracker();
+        printAllocation("uninstrumented", kernelTracker.getMemoryAllocations(), kernelTracker.getGcCount(), size);
+
+        // Chunk tasks allocate on pool threads, which a per-thread tracker does not see. The
+        // all-threads reading adds its own two id/counter arrays, small against the task objects.
+        ParallelBoyerMooreMajorityVote parallel = new ParallelBoyerMooreMajorityVote();
+        long gcBefore = AllocationProbe.gcCount();
+        long allocatedBefore = AllocationProbe.allThreadsAllocatedBytes();
+        parallel.findMajority(arr);
+        long allocated = Math.max(0, AllocationProbe.allThreadsAllocatedBytes() - allocatedBefore);
+        printAllocation("parallel (all threads)", allocated, AllocationProbe.gcCount() - gcBefore, size);
+    }
+
+    private static void printAllocation(String mode, long bytes, long gcCount, long elements) {
+        System.out.printf("  Allocated [%s]: %d bytes (%.3f per element), GC: %d\n",
+                mode, bytes, bytes / (double) Math.max(1, elements), gcCount);
     }
 
 
-    private int[] generateInput(int size, InputType type) {
+    public static int[] generateInput(int size, InputType type) {
         Random rand = new Random(42);
         int[] arr = new int[size];
 
@@ -0,0 +1,192 @@
+package cli;
+
+import metrics.BenchmarkBaseline;
+import metrics.BenchmarkBaseline.Comparison;
+import metrics.JmhResults;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Baseline store and regression gate for the hot paths. Scores come from JMH: the gate runs
+ * {@code MajorityVoteBenchmark} from {@code benchmarks.jar} (built with {@code mvn -Pjmh package})
+ * with {@code -rf json}, or reads an existing JMH JSON file, and keeps one score per fork for
+ * every (InputType, size, mode). {@link BenchmarkBaseline#compareTo(BenchmarkBaseline, double)}
+ * then compares the per-fork scores against a stored baseline.
+ *
+ * <pre>
+ * record  &lt;baseline.csv&gt; [options]                      run JMH (or load --jmh-json), store as baseline
+ * compare &lt;baseline.csv&gt; [options] [--current run.csv]  run JMH (or load a run) and gate
+ * options: --forks N (3)  --sizes a,b (10000,1000000)  --iterations N (5)  --millis per iteration (500)
+ *          --jar benchmarks.jar  --jmh-json result.json  --threshold fraction (0.10)
+ *          --report diff.md  --save run.csv
+ * </pre>
+ *
+ * Exit code 0 when nothing regressed, 1 on a regression, 2 on bad input.
+ */
+public class RegressionGate {
+
+    // JMH include regex; its methods (instrumented, uninstrumented, parallel) are the modes.
+    static final String BENCHMARK = "\\.MajorityVoteBenchmark\\.";
+
+    private int forks = 3;
+    private int[] sizes = {10_000, 1_000_000};
+    private int iterations = 5;
+    private long millis = 500;
+    private double threshold = 0.10;
+    private Path jar = Paths.get("target", "benchmarks.jar");
+    private Path jmhJson;
+    private Path report;
+    private Path save;
+    private Path current;
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) {
+        try {
+            if (args.length >= 2 && (args[0].equals("record") || args[0].equals("compare"))) {
+                RegressionGate gate = new RegressionGate().parseOptions(args, 2);
+                Path baselineFile = Paths.get(args[1]);
+                if (args[0].equals("record")) {
+                    gate.measure().save(baselineFile);
+                    System.out.println("Baseline written to " + baselineFile);
+                    return 0;
+                }
+                return gate.compare(BenchmarkBaseline.load(baselineFile));
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("Error: " + e.getMessage());
+            return 2;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 2;
+        }
+
+        System.err.println("Usage: record|compare <baseline.csv> [--forks N] [--sizes a,b] [--iterations N]"
+                + " [--millis ms] [--jar benchmarks.jar] [--jmh-json result.json] [--threshold f]"
+                + " [--report diff.md] [--save run.csv] [--current run.csv]");
+        return 2;
+    }
+
+    private RegressionGate parseOptions(String[] args, int from) {
+        for (int i = from; i < args.length; i++) {
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + args[i]);
+            }
+            String value = args[++i];
+            switch (args[i - 1]) {
+                case "--forks":
+                    forks = Integer.parseInt(value);
+                    break;
+                case "--sizes":
+                    sizes = Arrays.stream(value.split(",")).mapToInt(Integer::parseInt).toArray();
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(value);
+                    break;
+                case "--millis":
+                    millis = Long.parseLong(value);
+                    break;
+                case "--threshold":
+                    threshold = Double.parseDouble(value);
+                    break;
+                case "--jar":
+                    jar = Paths.get(value);
+                    break;
+                case "--jmh-json":
+                    jmhJson = Paths.get(value);
+                    break;
+                case "--report":
+                    report = Paths.get(value);
+                    break;
+                case "--save":
+                    save = Paths.get(value);
+                    break;
+                case "--current":
+                    current = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + args[i - 1]);
+            }
+        }
+        if (forks < 1 || iterations < 1 || millis < 1 || threshold < 0) {
+            throw new IllegalArgumentException("forks, iterations and millis must be positive, threshold non-negative");
+        }
+        return this;
+    }
+
+    private int compare(BenchmarkBaseline baseline) throws IOException, InterruptedException {
+        BenchmarkBaseline run = current != null ? BenchmarkBaseline.load(current) : measure();
+        if (save != null) {
+            run.save(save);
+        }
+
+        List<Comparison> comparisons = run.compareTo(baseline, threshold);
+        if (comparisons.isEmpty()) {
+            throw new IllegalArgumentException("No benchmark is present in both the baseline and this run");
+        }
+        int regressions = 0;
+        for (Comparison c : comparisons) {
+            System.out.println(c);
+            if (c.regression) {
+                regressions++;
+            }
+        }
+        if (report != null) {
+            BenchmarkBaseline.writeReport(comparisons, threshold, report);
+            System.out.println("Report written to " + report);
+        }
+        System.out.printf("%d of %d benchmarks regressed beyond %.1f%%%n",
+                regressions, comparisons.size(), threshold * 100);
+        return regressions > 0 ? 1 : 0;
+    }
+
+    private BenchmarkBaseline measure() throws IOException, InterruptedException {
+        return jmhJson != null ? JmhResults.load(jmhJson) : runJmh();
+    }
+
+    // One JMH run; JMH itself forks the JVMs, and each fork becomes one sample.
+    private BenchmarkBaseline runJmh() throws IOException, InterruptedException {
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException(jar + " not found; build it with mvn -Pjmh package");
+        }
+        Path result = Files.createTempFile("regression-gate", ".json");
+        try {
+            int code = new ProcessBuilder(jmhCommand(result)).inheritIO().start().waitFor();
+            if (code != 0) {
+                throw new IOException("JMH exited with code " + code);
+            }
+            return JmhResults.load(result);
+        } finally {
+            Files.deleteIfExists(result);
+        }
+    }
+
+    private List<String> jmhCommand(Path result) {
+        String iterationTime = millis + "ms";
+        return new ArrayList<>(Arrays.asList(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-jar", jar.toString(), BENCHMARK,
+                "-f", Integer.toString(forks),
+                "-wi", Integer.toString(iterations), "-w", iterationTime,
+                "-i", Integer.toString(iterations), "-r", iterationTime,
+                "-bm", "avgt", "-tu", "ns",
+                "-p", "size=" + joinSizes(),
+                "-rf", "json", "-rff", result.toString()));
+    }
+
+    private String joinSizes() {
+        StringBuilder joined = new StringBuilder();
+        for (int size : sizes) {
+            joined.append(joined.length() == 0 ? "" : ",").append(size);
+        }
+        return joined.toString();
+    }
+}
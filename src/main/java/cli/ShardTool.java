@@ -0,0 +1,101 @@
+package cli;
+
+import algorithms.MajoritySummary;
+import algorithms.MajoritySummary.CandidateCount;
+import algorithms.SpaceSavingHeavyHitters.HeavyHitter;
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/**
+ * Multi-node driver around {@link MajoritySummary}. Shards are files of little-endian int32
+ * values, as in --file mode. One round:
+ *
+ * <pre>
+ * summarize shard.bin shard.summary [hhCapacity]    (on every node)
+ * merge global.summary shard1.summary ...           (prints "candidate N" or "no-candidate")
+ * count shard.bin N shard.count                     (on every node)
+ * verify global.summary shard1.count ...            (shard order; prints the verified result)
+ * </pre>
+ *
+ * Exit code 0 on success, 1 when verify finds no majority, 2 on bad input.
+ */
+public class ShardTool {
+
+    public static void main(String[] args) {
+        System.exit(run(args));
+    }
+
+    public static int run(String[] args) {
+        try {
+            if (args.length >= 3 && args[0].equals("summarize")) {
+                int capacity = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+                MajoritySummary summary = MajoritySummary.summarize(mapShard(Paths.get(args[1])), capacity);
+                summary.writeTo(Paths.get(args[2]));
+                System.out.printf("summary %d elements%n", summary.getElementCount());
+                return 0;
+            }
+            if (args.length >= 3 && args[0].equals("merge")) {
+                MajoritySummary global = MajoritySummary.readFrom(Paths.get(args[2]));
+                for (int i = 3; i < args.length; i++) {
+                    global.merge(MajoritySummary.readFrom(Paths.get(args[i])));
+                }
+                global.writeTo(Paths.get(args[1]));
+                System.out.println(global.hasCandidate() ? "candidate " + global.getCandidate() : "no-candidate");
+                if (global.getHeavyHitters() != null) {
+                    for (HeavyHitter hitter : global.getHeavyHitters().topK(10)) {
+                        System.out.println("  " + hitter);
+                    }
+                }
+                return 0;
+            }
+            if (args.length == 4 && args[0].equals("count")) {
+                CandidateCount count = CandidateCount.count(mapShard(Paths.get(args[1])), Integer.parseInt(args[2]));
+                count.writeTo(Paths.get(args[3]));
+                System.out.printf("count %d of %d%n", count.getCount(), count.getElementCount());
+                return 0;
+            }
+            if (args.length >= 2 && args[0].equals("verify")) {
+                MajoritySummary global = MajoritySummary.readFrom(Paths.get(args[1]));
+                List<CandidateCount> counts = new ArrayList<>();
+                for (int i = 2; i < args.length; i++) {
+                    counts.add(CandidateCount.readFrom(Paths.get(args[i])));
+                }
+                var result = global.combine(counts);
+                if (result.isPresent()) {
+                    System.out.printf("majority %d count %d first %d last %d%n", result.get().getElement(),
+                            result.get().getCount(), result.get().getFirstPosition(), result.get().getLastPosition());
+                    return 0;
+                }
+                System.out.println("no-majority");
+                return 1;
+            }
+        } catch (IOException | IllegalArgumentException | IllegalStateException e) {
+            System.err.println("Error: " + e.getMessage());
+            return 2;
+        }
+
+        System.err.println("Usage: summarize <shard> <out> [hhCapacity] | merge <out> <summary>... "
+                + "| count <shard> <candidate> <out> | verify <global summary> <count>...");
+        return 2;
+    }
+
+    // Whole-shard mapping; shards are expected to stay under 2 GB, the limit of one mapping.
+    private static IntBuffer mapShard(Path shard) throws IOException {
+        try (FileChannel channel = FileChannel.open(shard, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size % Integer.BYTES != 0) {
+                throw new IllegalArgumentException("Shard length " + size + " is not a multiple of 4 bytes");
+            }
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    .order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+        }
+    }
+}
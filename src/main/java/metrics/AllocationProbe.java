@@ -0,0 +1,80 @@
+package metrics;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+
+
+/**
+ * Cheap readings of the current thread's allocated bytes (HotSpot's
+ * {@code com.sun.management.ThreadMXBean}) and of cumulative GC count and time across all
+ * collectors. The beans are looked up once. The per-thread and GC readings do not allocate,
+ * so they can bracket an allocation-free call without disturbing it;
+ * {@link #allThreadsAllocatedBytes()} does, and is only for calls that allocate anyway.
+ */
+public final class AllocationProbe {
+
+    private static final com.sun.management.ThreadMXBean THREADS = lookupThreadBean();
+    private static final GarbageCollectorMXBean[] COLLECTORS = lookupCollectors();
+
+    private AllocationProbe() {
+    }
+
+    private static com.sun.management.ThreadMXBean lookupThreadBean() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean hotspot = (com.sun.management.ThreadMXBean) bean;
+            if (hotspot.isThreadAllocatedMemorySupported()) {
+                hotspot.setThreadAllocatedMemoryEnabled(true);
+                return hotspot;
+            }
+        }
+        return null;
+    }
+
+    private static GarbageCollectorMXBean[] lookupCollectors() {
+        List<GarbageCollectorMXBean> beans = ManagementFactory.getGarbageCollectorMXBeans();
+        return beans.toArray(new GarbageCollectorMXBean[0]);
+    }
+
+    public static boolean isAllocationTrackingSupported() {
+        return THREADS != null;
+    }
+
+    // Bytes allocated so far by the calling thread, or -1 if unsupported.
+    public static long currentThreadAllocatedBytes() {
+        return THREADS == null ? -1 : THREADS.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    // Total bytes allocated so far by all live threads, or -1 if unsupported. Allocates two
+    // long[] per call (thread ids and their counters), which shows up in its own delta.
+    public static long allThreadsAllocatedBytes() {
+        if (THREADS == null) {
+            return -1;
+        }
+        long total = 0;
+        for (long bytes : THREADS.getThreadAllocatedBytes(THREADS.getAllThreadIds())) {
+            if (bytes > 0) {
+                total += bytes;
+            }
+        }
+        return total;
+    }
+
+    public static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionCount());
+        }
+        return total;
+    }
+
+    public static long gcTimeMillis() {
+        long total = 0;
+        for (GarbageCollectorMXBean collector : COLLECTORS) {
+            total += Math.max(0, collector.getCollectionTime());
+        }
+        return total;
+    }
+}
@@ -0,0 +1,213 @@
+package metrics;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Stored benchmark results: one time-per-operation score per (input type, size, mode) and
+ * fork, saved as CSV ({@code InputType,Size,Mode,Fork,NanosPerOp}). Each fork is a separate
+ * JVM, so forks are independent samples; {@link #compareTo(BenchmarkBaseline, double)} uses
+ * them for a Welch confidence interval on the change in mean time.
+ */
+public class BenchmarkBaseline {
+
+    public static final String CSV_HEADER = "InputType,Size,Mode,Fork,NanosPerOp";
+
+    // Two-sided 95% quantile of the standard normal distribution.
+    private static final double Z_95 = 1.959964;
+    private static final double[] T95_SMALL_DF = {
+            Double.NaN, 12.706, 4.303, 3.182, 2.776, 2.571, 2.447, 2.365, 2.306, 2.262, 2.228
+    };
+
+    private final Map<String, List<Double>> scores = new LinkedHashMap<>();
+
+
+    /**
+     * Change of one benchmark against the baseline. {@code delta} and the confidence bounds
+     * are relative to the baseline mean, e.g. 0.10 = 10% slower.
+     */
+    public static class Comparison {
+        public final String key;
+        public final double baselineMean;
+        public final double currentMean;
+        public final double delta;
+        public final double ciLow;
+        public final double ciHigh;
+        public final boolean regression;
+
+        public Comparison(String key, double baselineMean, double currentMean,
+                          double delta, double ciLow, double ciHigh, boolean regression) {
+            this.key = key;
+            this.baselineMean = baselineMean;
+            this.currentMean = currentMean;
+            this.delta = delta;
+            this.ciLow = ciLow;
+            this.ciHigh = ciHigh;
+            this.regression = regression;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %.1f -> %.1f ns/op (%+.1f%%, 95%% CI %+.1f%%..%+.1f%%)%s",
+                    key, baselineMean, currentMean, delta * 100, ciLow * 100, ciHigh * 100,
+                    regression ? " REGRESSION" : "");
+        }
+    }
+
+    public static String key(String inputType, int size, String mode) {
+        return inputType + "," + size + "," + mode;
+    }
+
+    public void add(String inputType, int size, String mode, double nanosPerOp) {
+        scores.computeIfAbsent(key(inputType, size, mode), k -> new ArrayList<>()).add(nanosPerOp);
+    }
+
+    public List<Double> getScores(String key) {
+        return scores.getOrDefault(key, new ArrayList<>());
+    }
+
+    public int size() {
+        return scores.size();
+    }
+
+    public void save(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.println(CSV_HEADER);
+            for (Map.Entry<String, List<Double>> entry : scores.entrySet()) {
+                List<Double> forks = entry.getValue();
+                for (int fork = 0; fork < forks.size(); fork++) {
+                    writer.printf(Locale.ROOT, "%s,%d,%.3f%n", entry.getKey(), fork, forks.get(fork));
+                }
+            }
+        }
+    }
+
+    public static BenchmarkBaseline load(Path file) throws IOException {
+        BenchmarkBaseline baseline = new BenchmarkBaseline();
+        try (BufferedReader reader = Files.newBufferedReader(file)) {
+            String header = reader.readLine();
+            if (!CSV_HEADER.equals(header)) {
+                throw new IllegalArgumentException("Not a benchmark baseline: " + file);
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isEmpty()) {
+                    continue;
+                }
+                String[] fields = line.split(",");
+                if (fields.length != 5) {
+                    throw new IllegalArgumentException("Malformed baseline line: " + line);
+                }
+                baseline.add(fields[0], Integer.parseInt(fields[1]), fields[2], Double.parseDouble(fields[4]));
+            }
+        }
+        return baseline;
+    }
+
+    /**
+     * Compares this run against {@code baseline} for every benchmark present in both. A
+     * benchmark regresses when its mean time grew by more than {@code threshold} and the 95%
+     * confidence interval of the change lies entirely above zero. With fewer than two forks
+     * on either side there is no variance estimate and the point estimate alone decides.
+     */
+    public List<Comparison> compareTo(BenchmarkBaseline baseline, double threshold) {
+        List<Comparison> result = new ArrayList<>();
+        for (Map.Entry<String, List<Double>> entry : scores.entrySet()) {
+            List<Double> before = baseline.scores.get(entry.getKey());
+            if (before == null || before.isEmpty() || entry.getValue().isEmpty()) {
+                continue;
+            }
+            List<Double> after = entry.getValue();
+            double baseMean = mean(before);
+            double curMean = mean(after);
+            double delta = (curMean - baseMean) / baseMean;
+
+            double halfWidth = 0;
+            if (before.size() > 1 && after.size() > 1) {
+                double vb = variance(before, baseMean) / before.size();
+                double va = variance(after, curMean) / after.size();
+                double se = Math.sqrt(vb + va);
+                // Welch-Satterthwaite degrees of freedom.
+                double df = (vb + va) * (vb + va)
+                        / (vb * vb / (before.size() - 1) + va * va / (after.size() - 1));
+                halfWidth = studentT95(df) * se / baseMean;
+            }
+            double ciLow = delta - halfWidth;
+            double ciHigh = delta + halfWidth;
+            boolean regression = delta > threshold && ciLow > 0;
+            result.add(new Comparison(entry.getKey(), baseMean, curMean, delta, ciLow, ciHigh, regression));
+        }
+        return result;
+    }
+
+    // Markdown table of all comparisons, regressions first.
+    public static void writeReport(List<Comparison> comparisons, double threshold, Path file) throws IOException {
+        List<Comparison> sorted = new ArrayList<>(comparisons);
+        sorted.sort((a, b) -> a.regression != b.regression
+                ? (a.regression ? -1 : 1)
+                : Double.compare(b.delta, a.delta));
+
+        long regressions = comparisons.stream().filter(c -> c.regression).count();
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file))) {
+            writer.printf("# Benchmark comparison%n%n");
+            writer.printf("%d of %d benchmarks regressed (threshold %.1f%%, 95%% confidence).%n%n",
+                    regressions, comparisons.size(), threshold * 100);
+            writer.println("| Input | Size | Mode | Baseline ns/op | Current ns/op | Change | 95% CI | Status |");
+            writer.println("|---|---:|---|---:|---:|---:|---|---|");
+            for (Comparison c : sorted) {
+                String[] parts = c.key.split(",");
+                String status = c.regression ? "REGRESSION"
+                        : c.ciHigh < 0 ? "faster"
+                        : "ok";
+                writer.printf("| %s | %s | %s | %.1f | %.1f | %+.1f%% | %+.1f%% .. %+.1f%% | %s |%n",
+                        parts[0], parts[1], parts[2], c.baselineMean, c.currentMean,
+                        c.delta * 100, c.ciLow * 100, c.ciHigh * 100, status);
+            }
+        }
+    }
+
+    private static double mean(List<Double> values) {
+        double sum = 0;
+        for (double v : values) {
+            sum += v;
+        }
+        return sum / values.size();
+    }
+
+    private static double variance(List<Double> values, double mean) {
+        double sum = 0;
+        for (double v : values) {
+            sum += (v - mean) * (v - mean);
+        }
+        return sum / (values.size() - 1);
+    }
+
+    // Two-sided 95% Student-t quantile: exact for small df (rounded down), Cornish-Fisher above.
+    static double studentT95(double df) {
+        if (Double.isNaN(df) || Double.isInfinite(df)) {
+            return Z_95;
+        }
+        if (df < T95_SMALL_DF.length) {
+            return T95_SMALL_DF[(int) Math.max(1, df)];
+        }
+        double z = Z_95;
+        double z3 = z * z * z;
+        double z5 = z3 * z * z;
+        double z7 = z5 * z * z;
+        return z + (z3 + z) / (4 * df)
+                + (5 * z5 + 16 * z3 + 3 * z) / (96 * df * df)
+                + (3 * z7 + 19 * z5 + 17 * z3 - 15 * z) / (384 * df * df * df);
+    }
+}
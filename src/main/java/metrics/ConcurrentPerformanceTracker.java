@@ -0,0 +1,129 @@
+package metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * Thread-safe counterpart of {@link PerformanceTracker} for metrics shared by many threads
+ * and many calls. Counters are {@link LongAdder}s (striped per thread, summed on read) and
+ * latencies go into a {@link LatencyHistogram}, so percentiles cover every recorded call
+ * rather than only the last one.
+ */
+public class ConcurrentPerformanceTracker {
+
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder swaps = new LongAdder();
+    private final LongAdder arrayAccesses = new LongAdder();
+    private final LongAdder memoryAllocations = new LongAdder();
+    private final LatencyHistogram latencies;
+
+    public ConcurrentPerformanceTracker() {
+        this.latencies = new LatencyHistogram();
+    }
+
+    public void reset() {
+        comparisons.reset();
+        swaps.reset();
+        arrayAccesses.reset();
+        memoryAllocations.reset();
+        latencies.reset();
+    }
+
+    public void incrementComparisons(long count) {
+        comparisons.add(count);
+    }
+
+    public void incrementSwaps(long count) {
+        swaps.add(count);
+    }
+
+    public void incrementArrayAccesses(long count) {
+        arrayAccesses.add(count);
+    }
+
+    public void incrementMemoryAllocations(long count) {
+        memoryAllocations.add(count);
+    }
+
+    public void recordLatency(long nanos) {
+        latencies.record(nanos);
+    }
+
+    // Folds in a finished single-threaded run: its counters and its execution time as one sample.
+    public void record(PerformanceTracker run) {
+        comparisons.add(run.getComparisons());
+        swaps.add(run.getSwaps());
+        arrayAccesses.add(run.getArrayAccesses());
+        memoryAllocations.add(run.getMemoryAllocations());
+        latencies.record(run.getExecutionTime());
+    }
+
+    public void merge(ConcurrentPerformanceTracker other) {
+        comparisons.add(other.getComparisons());
+        swaps.add(other.getSwaps());
+        arrayAccesses.add(other.getArrayAccesses());
+        memoryAllocations.add(other.getMemoryAllocations());
+        latencies.merge(other.latencies);
+    }
+
+    public long getComparisons() {
+        return comparisons.sum();
+    }
+
+    public long getSwaps() {
+        return swaps.sum();
+    }
+
+    public long getArrayAccesses() {
+        return arrayAccesses.sum();
+    }
+
+    public long getMemoryAllocations() {
+        return memoryAllocations.sum();
+    }
+
+    public long getSampleCount() {
+        return latencies.getCount();
+    }
+
+    public long getPercentile(double percentile) {
+        return latencies.getPercentile(percentile);
+    }
+
+    public long getP50() {
+        return latencies.getPercentile(50);
+    }
+
+    public long getP99() {
+        return latencies.getPercentile(99);
+    }
+
+    public long getP999() {
+        return latencies.getPercentile(99.9);
+    }
+
+    public long getMaxLatency() {
+        return latencies.getMax();
+    }
+
+    public double getMeanLatency() {
+        return latencies.getMean();
+    }
+
+    public LatencyHistogram getLatencyHistogram() {
+        return latencies;
+    }
+
+    public void printMetrics() {
+        System.out.println("\n=== Concurrent Performance Metrics ===");
+        System.out.println("Samples: " + getSampleCount());
+        System.out.println("Latency p50: " + getP50() + " ns");
+        System.out.println("Latency p99: " + getP99() + " ns");
+        System.out.println("Latency p99.9: " + getP999() + " ns");
+        System.out.println("Latency max: " + getMaxLatency() + " ns");
+        System.out.println("Comparisons: " + getComparisons());
+        System.out.println("Swaps: " + getSwaps());
+        System.out.println("Array Accesses: " + getArrayAccesses());
+        System.out.println("Memory Allocations: " + getMemoryAllocations());
+    }
+}
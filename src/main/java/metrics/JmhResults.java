@@ -0,0 +1,273 @@
+package metrics;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+
+/**
+ * Reads a JMH result file written with {@code -rf json} into a {@link BenchmarkBaseline}: one
+ * score per fork, the mean of that fork's measurement iterations in ns/op. The mode is the
+ * benchmark method name, so {@code benchmarks.MajorityVoteBenchmark.parallel} becomes
+ * "parallel"; {@code inputType} and {@code size} come from the benchmark params.
+ */
+public final class JmhResults {
+
+    private JmhResults() {
+    }
+
+    public static BenchmarkBaseline load(Path file) throws IOException {
+        return parse(Files.readString(file));
+    }
+
+    @SuppressWarnings("unchecked")
+    public static BenchmarkBaseline parse(String json) {
+        Object root = new Parser(json).parseDocument();
+        if (!(root instanceof List)) {
+            throw new IllegalArgumentException("Not a JMH JSON result: expected an array");
+        }
+
+        BenchmarkBaseline baseline = new BenchmarkBaseline();
+        for (Object item : (List<Object>) root) {
+            Map<String, Object> run = asObject(item, "benchmark run");
+            String benchmark = asString(run.get("benchmark"), "benchmark");
+            String mode = benchmark.substring(benchmark.lastIndexOf('.') + 1);
+            Map<String, Object> params = asObject(run.get("params"), "params");
+            String inputType = asString(params.get("inputType"), "inputType param");
+            int size = Integer.parseInt(asString(params.get("size"), "size param"));
+
+            Map<String, Object> metric = asObject(run.get("primaryMetric"), "primaryMetric");
+            double toNanos = nanosPerUnit(asString(metric.get("scoreUnit"), "scoreUnit"));
+            if (!(metric.get("rawData") instanceof List)) {
+                throw new IllegalArgumentException("Missing rawData for " + benchmark);
+            }
+            for (Object fork : (List<Object>) metric.get("rawData")) {
+                if (!(fork instanceof List) || ((List<Object>) fork).isEmpty()) {
+                    throw new IllegalArgumentException("Malformed rawData for " + benchmark);
+                }
+                double sum = 0;
+                for (Object iteration : (List<Object>) fork) {
+                    if (!(iteration instanceof Double)) {
+                        throw new IllegalArgumentException("Non-numeric score for " + benchmark);
+                    }
+                    sum += (Double) iteration;
+                }
+                baseline.add(inputType, size, mode, sum / ((List<Object>) fork).size() * toNanos);
+            }
+        }
+        return baseline;
+    }
+
+    // Average-time units only; throughput scores cannot be compared as ns/op.
+    static double nanosPerUnit(String unit) {
+        switch (unit) {
+            case "ns/op":
+                return 1;
+            case "us/op":
+                return 1e3;
+            case "ms/op":
+                return 1e6;
+            case "s/op":
+                return 1e9;
+            default:
+                throw new IllegalArgumentException("Unsupported score unit " + unit + ", run JMH in avgt mode");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> asObject(Object value, String what) {
+        if (!(value instanceof Map)) {
+            throw new IllegalArgumentException("Missing " + what);
+        }
+        return (Map<String, Object>) value;
+    }
+
+    private static String asString(Object value, String what) {
+        if (!(value instanceof String)) {
+            throw new IllegalArgumentException("Missing " + what);
+        }
+        return (String) value;
+    }
+
+    // Minimal JSON reader: objects, arrays, strings, numbers (as Double), true/false/null.
+    private static final class Parser {
+        private final String text;
+        private int pos;
+
+        Parser(String text) {
+            this.text = text;
+        }
+
+        Object parseDocument() {
+            Object value = parseValue();
+            skipWhitespace();
+            if (pos != text.length()) {
+                throw error("Trailing characters");
+            }
+            return value;
+        }
+
+        private Object parseValue() {
+            skipWhitespace();
+            if (pos >= text.length()) {
+                throw error("Unexpected end of input");
+            }
+            char c = text.charAt(pos);
+            switch (c) {
+                case '{':
+                    return parseObject();
+                case '[':
+                    return parseArray();
+                case '"':
+                    return parseString();
+                case 't':
+                    return literal("true", Boolean.TRUE);
+                case 'f':
+                    return literal("false", Boolean.FALSE);
+                case 'n':
+                    return literal("null", null);
+                default:
+                    return parseNumber();
+            }
+        }
+
+        private Map<String, Object> parseObject() {
+            Map<String, Object> object = new LinkedHashMap<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == '}') {
+                pos++;
+                return object;
+            }
+            while (true) {
+                skipWhitespace();
+                String key = parseString();
+                skipWhitespace();
+                expect(':');
+                object.put(key, parseValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect('}');
+                    return object;
+                }
+            }
+        }
+
+        private List<Object> parseArray() {
+            List<Object> array = new ArrayList<>();
+            pos++;
+            skipWhitespace();
+            if (peek() == ']') {
+                pos++;
+                return array;
+            }
+            while (true) {
+                array.add(parseValue());
+                skipWhitespace();
+                if (peek() == ',') {
+                    pos++;
+                } else {
+                    expect(']');
+                    return array;
+                }
+            }
+        }
+
+        private String parseString() {
+            expect('"');
+            StringBuilder sb = new StringBuilder();
+            while (pos < text.length()) {
+                char c = text.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c != '\\') {
+                    sb.append(c);
+                    continue;
+                }
+                if (pos >= text.length()) {
+                    break;
+                }
+                char escaped = text.charAt(pos++);
+                switch (escaped) {
+                    case 'n':
+                        sb.append('\n');
+                        break;
+                    case 't':
+                        sb.append('\t');
+                        break;
+                    case 'r':
+                        sb.append('\r');
+                        break;
+                    case 'b':
+                        sb.append('\b');
+                        break;
+                    case 'f':
+                        sb.append('\f');
+                        break;
+                    case 'u':
+                        if (pos + 4 > text.length()) {
+                            throw error("Truncated escape");
+                        }
+                        sb.append((char) Integer.parseInt(text.substring(pos, pos + 4), 16));
+                        pos += 4;
+                        break;
+                    default:
+                        sb.append(escaped);
+                }
+            }
+            throw error("Unterminated string");
+        }
+
+        private Double parseNumber() {
+            int start = pos;
+            while (pos < text.length() && "+-0123456789.eE".indexOf(text.charAt(pos)) >= 0) {
+                pos++;
+            }
+            if (start == pos) {
+                throw error("Unexpected character '" + text.charAt(pos) + "'");
+            }
+            try {
+                return Double.parseDouble(text.substring(start, pos));
+            } catch (NumberFormatException e) {
+                throw error("Bad number");
+            }
+        }
+
+        // JMH writes "NaN" (quoted) for missing scores, which parses as a string and is rejected above.
+        private Object literal(String word, Object value) {
+            if (!text.startsWith(word, pos)) {
+                throw error("Unexpected token");
+            }
+            pos += word.length();
+            return value;
+        }
+
+        private void skipWhitespace() {
+            while (pos < text.length() && Character.isWhitespace(text.charAt(pos))) {
+                pos++;
+            }
+        }
+
+        private char peek() {
+            return pos < text.length() ? text.charAt(pos) : '\0';
+        }
+
+        private void expect(char c) {
+            if (peek() != c) {
+                throw error("Expected '" + c + "'");
+            }
+            pos++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException(message + " at offset " + pos + " of JMH JSON");
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * JFR event for one leaf task of the parallel passes, recorded on its worker thread.
+ * {@link #beginIfEnabled()} returns null while disabled.
+ */
+@Name("boyermoore.MajorityChunk")
+@Label("Majority Chunk")
+@Category("Boyer-Moore")
+@Description("Leaf fork-join task of the parallel candidate or verification pass")
+public class MajorityChunkEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(MajorityChunkEvent.class);
+
+    @Label("Phase")
+    String phase;
+
+    @Label("From")
+    long from;
+
+    @Label("To")
+    long to;
+
+    @Label("Candidate")
+    int candidate;
+
+    @Label("Count")
+    long count;
+
+    public static MajorityChunkEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        MajorityChunkEvent event = new MajorityChunkEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String phase, long from, long to, int candidate, long count) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.from = from;
+            this.to = to;
+            this.candidate = candidate;
+            this.count = count;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * JFR event for the candidate or verification pass of a majority computation. Like
+ * {@link MajorityVoteEvent}, {@link #beginIfEnabled()} returns null while disabled.
+ */
+@Name("boyermoore.MajorityPhase")
+@Label("Majority Phase")
+@Category("Boyer-Moore")
+@Description("Candidate (voting) or verification pass of a findMajority call")
+public class MajorityPhaseEvent extends Event {
+
+    public static final String CANDIDATE = "candidate";
+    public static final String VERIFICATION = "verification";
+
+    private static final EventType TYPE = EventType.getEventType(MajorityPhaseEvent.class);
+
+    @Label("Phase")
+    String phase;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Input Size")
+    long inputSize;
+
+    @Label("Candidate")
+    int candidate;
+
+    public static MajorityPhaseEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        MajorityPhaseEvent event = new MajorityPhaseEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(String phase, String mode, long inputSize, int candidate) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.mode = mode;
+            this.inputSize = inputSize;
+            this.candidate = candidate;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.EventType;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+
+/**
+ * JFR event spanning one majority computation, committed after its tracker is stopped.
+ * Call sites obtain instances through {@link #beginIfEnabled()}, which returns null without
+ * allocating while no recording has the event enabled.
+ */
+@Name("boyermoore.MajorityVote")
+@Label("Majority Vote")
+@Category("Boyer-Moore")
+@Description("One findMajority call with its result and tracker counters")
+public class MajorityVoteEvent extends Event {
+
+    private static final EventType TYPE = EventType.getEventType(MajorityVoteEvent.class);
+
+    @Label("Input Size")
+    long inputSize;
+
+    @Label("Mode")
+    String mode;
+
+    @Label("Majority Found")
+    boolean majorityFound;
+
+    @Label("Element")
+    int element;
+
+    @Label("Count")
+    long count;
+
+    @Label("Comparisons")
+    long comparisons;
+
+    @Label("Array Accesses")
+    long arrayAccesses;
+
+    @Label("Allocated")
+    @DataAmount
+    long allocatedBytes;
+
+    public static MajorityVoteEvent beginIfEnabled() {
+        if (!TYPE.isEnabled()) {
+            return null;
+        }
+        MajorityVoteEvent event = new MajorityVoteEvent();
+        event.begin();
+        return event;
+    }
+
+    public void complete(long inputSize, String mode, boolean majorityFound, int element, long count,
+                         PerformanceTracker tracker) {
+        end();
+        if (shouldCommit()) {
+            this.inputSize = inputSize;
+            this.mode = mode;
+            this.majorityFound = majorityFound;
+            this.element = element;
+            this.count = count;
+            this.comparisons = tracker.getComparisons();
+            this.arrayAccesses = tracker.getArrayAccesses();
+            this.allocatedBytes = tracker.getMemoryAllocations();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package metrics;
+
+import metrics.PerformanceTracker.MetricsSnapshot;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Background exporter that streams a {@link SnapshotRingBuffer} to disk at a fixed interval:
+ * new snapshots are appended to a JSON-lines file, and a Prometheus text-format file is
+ * replaced atomically with the latest values. Output is encoded straight into a reused
+ * {@link ByteBuffer} and written through a {@link FileChannel}, without String.format.
+ *
+ * <p>If the buffer wraps between two exports, the overwritten snapshots are counted in
+ * {@code majority_snapshots_dropped_total} instead of being written.
+ */
+public class MetricsExporter implements AutoCloseable {
+
+    private final SnapshotRingBuffer source;
+    private final Path jsonLinesFile;
+    private final Path prometheusFile;
+    private final long intervalMillis;
+    private final ScheduledExecutorService scheduler;
+
+    private final List<MetricsSnapshot> pending = new ArrayList<>();
+    private ByteBuffer buffer = ByteBuffer.allocateDirect(64 * 1024);
+    private FileChannel jsonChannel;
+    private long nextSequence;
+    private long exported;
+    private long dropped;
+    private MetricsSnapshot latest;
+    private boolean started;
+    private volatile IOException lastError;
+
+    /**
+     * @param jsonLinesFile  appended to on every export; null to skip JSON lines
+     * @param prometheusFile replaced on every export; null to skip Prometheus output
+     */
+    public MetricsExporter(SnapshotRingBuffer source, Path jsonLinesFile, Path prometheusFile,
+                           long intervalMillis) {
+        if (source == null) {
+            throw new IllegalArgumentException("Snapshot source cannot be null");
+        }
+        if (intervalMillis < 1) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        this.source = source;
+        this.jsonLinesFile = jsonLinesFile;
+        this.prometheusFile = prometheusFile;
+        this.intervalMillis = intervalMillis;
+        this.nextSequence = source.getOldestSequence();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-exporter");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    public synchronized void start() {
+        if (started) {
+            throw new IllegalStateException("Exporter already started");
+        }
+        started = true;
+        scheduler.scheduleAtFixedRate(this::exportQuietly, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void exportQuietly() {
+        try {
+            exportNow();
+        } catch (IOException e) {
+            lastError = e;
+        }
+    }
+
+    // Writes everything added since the previous export. Also called by the background thread.
+    public synchronized void exportNow() throws IOException {
+        pending.clear();
+        long gap = source.copySince(nextSequence, pending);
+        dropped += gap;
+        nextSequence += gap + pending.size();
+        if (!pending.isEmpty()) {
+            latest = pending.get(pending.size() - 1);
+        }
+
+        if (jsonLinesFile != null && !pending.isEmpty()) {
+            writeJsonLines();
+        }
+        exported += pending.size();
+        if (prometheusFile != null) {
+            writePrometheus();
+        }
+        pending.clear();
+    }
+
+    private void writeJsonLines() throws IOException {
+        if (jsonChannel == null) {
+            jsonChannel = FileChannel.open(jsonLinesFile,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        buffer.clear();
+        for (MetricsSnapshot s : pending) {
+            ensureRoom(512);
+            putAscii("{\"arraySize\":").putLong(s.arraySize);
+            putAscii(",\"comparisons\":").putLong(s.comparisons);
+            putAscii(",\"swaps\":").putLong(s.swaps);
+            putAscii(",\"arrayAccesses\":").putLong(s.arrayAccesses);
+            putAscii(",\"memoryAllocations\":").putLong(s.memoryAllocations);
+            putAscii(",\"executionTimeNs\":").putLong(s.executionTime);
+            putAscii(",\"gcCount\":").putLong(s.gcCount);
+            putAscii(",\"gcTimeMs\":").putLong(s.gcTimeMs);
+            putAscii("}\n");
+        }
+        flushTo(jsonChannel);
+        jsonChannel.force(false);
+    }
+
+    private void writePrometheus() throws IOException {
+        buffer.clear();
+        ensureRoom(2048);
+        putGauge("majority_snapshots_total", "counter", exported);
+        putGauge("majority_snapshots_dropped_total", "counter", dropped);
+        if (latest != null) {
+            putGauge("majority_array_size", "gauge", latest.arraySize);
+            putGauge("majority_comparisons", "gauge", latest.comparisons);
+            putGauge("majority_swaps", "gauge", latest.swaps);
+            putGauge("majority_array_accesses", "gauge", latest.arrayAccesses);
+            putGauge("majority_memory_allocated_bytes", "gauge", latest.memoryAllocations);
+            putGauge("majority_execution_time_ns", "gauge", latest.executionTime);
+            putGauge("majority_gc_count", "gauge", latest.gcCount);
+            putGauge("majority_gc_time_ms", "gauge", latest.gcTimeMs);
+        }
+
+        // Write-then-rename so scrapers never read a half-written file.
+        Path temp = prometheusFile.resolveSibling(prometheusFile.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            flushTo(channel);
+        }
+        Files.move(temp, prometheusFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void putGauge(String name, String type, long value) {
+        putAscii("# TYPE ").putAscii(name).putAscii(" ").putAscii(type).putAscii("\n");
+        putAscii(name).putAscii(" ").putLong(value).putAscii("\n");
+    }
+
+    private MetricsExporter putAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            buffer.put((byte) text.charAt(i));
+        }
+        return this;
+    }
+
+    private MetricsExporter putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            return putAscii("-9223372036854775808");
+        }
+        if (value < 0) {
+            buffer.put((byte) '-');
+            value = -value;
+        }
+        int start = buffer.position();
+        do {
+            buffer.put((byte) ('0' + value % 10));
+            value /= 10;
+        } while (value != 0);
+        // Digits were written least significant first; reverse them in place.
+        for (int i = start, j = buffer.position() - 1; i < j; i++, j--) {
+            byte tmp = buffer.get(i);
+            buffer.put(i, buffer.get(j));
+            buffer.put(j, tmp);
+        }
+        return this;
+    }
+
+    private void ensureRoom(int bytes) {
+        if (buffer.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocateDirect(buffer.capacity() * 2 + bytes);
+            buffer.flip();
+            larger.put(buffer);
+            buffer = larger;
+        }
+    }
+
+    private void flushTo(FileChannel channel) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    public synchronized long getExportedCount() {
+        return exported;
+    }
+
+    public synchronized long getDroppedCount() {
+        return dropped;
+    }
+
+    // Last failure of a background export, or null.
+    public IOException getLastError() {
+        return lastError;
+    }
+
+    @Override
+    public void close() throws IOException {
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(intervalMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            exportNow();
+            if (jsonChannel != null) {
+                jsonChannel.close();
+                jsonChannel = null;
+            }
+        }
+    }
+}
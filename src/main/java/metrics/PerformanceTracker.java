@@ -2,25 +2,39 @@ package metrics;
 import java.io.FileWriter;
 import java.io.IOException;
 import java.io.PrintWriter;
-import java.util.ArrayList;
 import java.util.List;
 
 
 public class PerformanceTracker {
 
+    public static final int DEFAULT_SNAPSHOT_CAPACITY = 10_000;
+
     private long comparisons;
     private long swaps;
     private long arrayAccesses;
     private long memoryAllocations;
+    private long gcCount;
+    private long gcTimeMs;
     private long startTime;
     private long endTime;
     private boolean timerRunning;
 
+    // Allocation/GC readings taken by startTimer(), consumed by stopTimer().
+    private boolean allocationTracking = true;
+    private long startAllocatedBytes;
+    private long startGcCount;
+    private long startGcTimeMs;
+
 
-    private final List<MetricsSnapshot> snapshots;
+    private final SnapshotRingBuffer snapshots;
 
     public PerformanceTracker() {
-        this.snapshots = new ArrayList<>();
+        this(DEFAULT_SNAPSHOT_CAPACITY);
+    }
+
+    // Keeps at most snapshotCapacity snapshots; older ones are overwritten. Storage grows on demand.
+    public PerformanceTracker(int snapshotCapacity) {
+        this.snapshots = new SnapshotRingBuffer(snapshotCapacity);
         reset();
     }
 
@@ -30,13 +44,25 @@ public class PerformanceTracker {
         swaps = 0;
         arrayAccesses = 0;
         memoryAllocations = 0;
+        gcCount = 0;
+        gcTimeMs = 0;
         startTime = 0;
         endTime = 0;
         timerRunning = false;
     }
 
 
+    /**
+     * Also snapshots the calling thread's allocated bytes and the GC counters when allocation
+     * tracking is on; {@link #stopTimer()} adds the deltas to memoryAllocations (in bytes),
+     * gcCount and gcTimeMs. Start and stop must run on the same thread.
+     */
     public void startTimer() {
+        if (allocationTracking) {
+            startGcCount = AllocationProbe.gcCount();
+            startGcTimeMs = AllocationProbe.gcTimeMillis();
+            startAllocatedBytes = AllocationProbe.currentThreadAllocatedBytes();
+        }
         startTime = System.nanoTime();
         timerRunning = true;
     }
@@ -45,9 +71,27 @@ public class PerformanceTracker {
         if (timerRunning) {
             endTime = System.nanoTime();
             timerRunning = false;
+
+            if (allocationTracking) {
+                long allocatedBytes = AllocationProbe.currentThreadAllocatedBytes();
+                if (startAllocatedBytes >= 0 && allocatedBytes >= startAllocatedBytes) {
+                    memoryAllocations += allocatedBytes - startAllocatedBytes;
+                }
+                gcCount += AllocationProbe.gcCount() - startGcCount;
+                gcTimeMs += AllocationProbe.gcTimeMillis() - startGcTimeMs;
+            }
         }
     }
 
+    // On by default; turn off to drop the MXBean reads from very short timed calls.
+    public void setAllocationTracking(boolean enabled) {
+        this.allocationTracking = enabled;
+    }
+
+    public boolean isAllocationTracking() {
+        return allocationTracking;
+    }
+
 
     public long getExecutionTime() {
         if (timerRunning) {
@@ -84,6 +128,7 @@ public class PerformanceTracker {
         arrayAccesses += count;
     }
 
+    // Manual counts add to the measured bytes; prefer letting startTimer()/stopTimer() measure them.
     public void incrementMemoryAllocations() {
         memoryAllocations++;
     }
@@ -103,10 +148,19 @@ public class PerformanceTracker {
         return arrayAccesses;
     }
 
+    // Bytes allocated by the tracked thread between startTimer() and stopTimer().
     public long getMemoryAllocations() {
         return memoryAllocations;
     }
 
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    public long getGcTimeMs() {
+        return gcTimeMs;
+    }
+
 
     public void saveSnapshot(int arraySize) {
         snapshots.add(new MetricsSnapshot(
@@ -115,28 +169,36 @@ public class PerformanceTracker {
                 swaps,
                 arrayAccesses,
                 memoryAllocations,
-                getExecutionTime()
+                getExecutionTime(),
+                gcCount,
+                gcTimeMs
         ));
     }
 
     public void exportToCSV(String filename) throws IOException {
         try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            writer.println("ArraySize,Comparisons,Swaps,ArrayAccesses,MemoryAllocations,ExecutionTime(ns)");
-            for (MetricsSnapshot snapshot : snapshots) {
-                writer.printf("%d,%d,%d,%d,%d,%d%n",
+            writer.println("ArraySize,Comparisons,Swaps,ArrayAccesses,MemoryAllocations(bytes),ExecutionTime(ns),GcCount,GcTime(ms)");
+            for (MetricsSnapshot snapshot : snapshots.toList()) {
+                writer.printf("%d,%d,%d,%d,%d,%d,%d,%d%n",
                         snapshot.arraySize,
                         snapshot.comparisons,
                         snapshot.swaps,
                         snapshot.arrayAccesses,
                         snapshot.memoryAllocations,
-                        snapshot.executionTime
+                        snapshot.executionTime,
+                        snapshot.gcCount,
+                        snapshot.gcTimeMs
                 );
             }
         }
     }
 
     public List<MetricsSnapshot> getSnapshots() {
-        return new ArrayList<>(snapshots);
+        return snapshots.toList();
+    }
+
+    public SnapshotRingBuffer getSnapshotBuffer() {
+        return snapshots;
     }
 
 
@@ -151,7 +213,8 @@ public class PerformanceTracker {
         System.out.println("Comparisons: " + comparisons);
         System.out.println("Swaps: " + swaps);
         System.out.println("Array Accesses: " + arrayAccesses);
-        System.out.println("Memory Allocations: " + memoryAllocations);
+        System.out.println("Memory Allocated: " + memoryAllocations + " bytes");
+        System.out.println("GC Collections: " + gcCount + " (" + gcTimeMs + " ms)");
     }
 
     public static class MetricsSnapshot {
@@ -161,21 +224,30 @@ public class PerformanceTracker {
         public final long arrayAccesses;
         public final long memoryAllocations;
         public final long executionTime;
+        public final long gcCount;
+        public final long gcTimeMs;
 
         public MetricsSnapshot(int arraySize, long comparisons, long swaps,
                                long arrayAccesses, long memoryAllocations, long executionTime) {
+            this(arraySize, comparisons, swaps, arrayAccesses, memoryAllocations, executionTime, 0, 0);
+        }
+
+        public MetricsSnapshot(int arraySize, long comparisons, long swaps, long arrayAccesses,
+                               long memoryAllocations, long executionTime, long gcCount, long gcTimeMs) {
             this.arraySize = arraySize;
             this.comparisons = comparisons;
             this.swaps = swaps;
             this.arrayAccesses = arrayAccesses;
             this.memoryAllocations = memoryAllocations;
             this.executionTime = executionTime;
+            this.gcCount = gcCount;
+            this.gcTimeMs = gcTimeMs;
         }
 
         @Override
         public String toString() {
-            return String.format("n=%d: comparisons=%d, swaps=%d, accesses=%d, time=%dns",
-                    arraySize, comparisons, swaps, arrayAccesses, executionTime);
+            return String.format("n=%d: comparisons=%d, swaps=%d, accesses=%d, allocated=%dB, gc=%d, time=%dns",
+                    arraySize, comparisons, swaps, arrayAccesses, memoryAllocations, gcCount, executionTime);
         }
     }
 }
\ No newline at end of file
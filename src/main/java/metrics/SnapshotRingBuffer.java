@@ -0,0 +1,84 @@
+package metrics;
+
+import metrics.PerformanceTracker.MetricsSnapshot;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Bounded store for {@link MetricsSnapshot}s: once full, each new snapshot overwrites the
+ * oldest. Every snapshot gets a sequence number, so a reader such as
+ * {@link MetricsExporter} can resume where it left off and tell how many it missed.
+ *
+ * <p>The slot array starts small and doubles up to the capacity, so a tracker that takes few
+ * snapshots does not pay for the full bound.
+ */
+public class SnapshotRingBuffer {
+
+    static final int INITIAL_SLOTS = 16;
+
+    private final int capacity;
+    private MetricsSnapshot[] slots;
+    private long nextSequence;
+
+    public SnapshotRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.slots = new MetricsSnapshot[Math.min(capacity, INITIAL_SLOTS)];
+    }
+
+    public synchronized void add(MetricsSnapshot snapshot) {
+        // Before the array reaches capacity nothing has wrapped, so slot == sequence.
+        if (nextSequence == slots.length && slots.length < capacity) {
+            slots = Arrays.copyOf(slots, (int) Math.min(capacity, 2L * slots.length));
+        }
+        slots[(int) (nextSequence % slots.length)] = snapshot;
+        nextSequence++;
+    }
+
+    // Sequence number the next added snapshot will get.
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    public synchronized long getOldestSequence() {
+        return Math.max(0, nextSequence - capacity);
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public synchronized int size() {
+        return (int) Math.min(nextSequence, capacity);
+    }
+
+    /**
+     * Appends the retained snapshots with sequence >= {@code fromSequence} to {@code out},
+     * oldest first, and returns how many snapshots from {@code fromSequence} on were already
+     * overwritten and skipped. Both come from one locked read, so a concurrent wrap cannot
+     * hide a gap. The sequence to pass next time is {@code fromSequence} plus the returned gap
+     * plus the number of snapshots appended, i.e. {@link #getNextSequence()} at the time of the call.
+     */
+    public synchronized long copySince(long fromSequence, List<MetricsSnapshot> out) {
+        long oldest = getOldestSequence();
+        for (long seq = Math.max(fromSequence, oldest); seq < nextSequence; seq++) {
+            out.add(slots[(int) (seq % slots.length)]);
+        }
+        return Math.max(0, oldest - fromSequence);
+    }
+
+    public synchronized List<MetricsSnapshot> toList() {
+        List<MetricsSnapshot> out = new ArrayList<>(size());
+        copySince(0, out);
+        return out;
+    }
+
+    public synchronized void clear() {
+        Arrays.fill(slots, null);
+        nextSequence = 0;
+    }
+}
@@ -0,0 +1,116 @@
+package algorithms;
+
+import metrics.ConcurrentPerformanceTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+
+class BatchMajorityVoteTest {
+
+    @Test
+    @DisplayName("Null input should throw IllegalArgumentException")
+    void testNullInput() {
+        try (BatchMajorityVote batch = new BatchMajorityVote()) {
+            assertThrows(IllegalArgumentException.class, () -> batch.findMajorities((int[][]) null));
+            assertThrows(IllegalArgumentException.class, () -> batch.findMajorities(new int[][]{null}));
+        }
+    }
+
+    @Test
+    @DisplayName("A null slice is rejected before any group is submitted")
+    void testNullSliceSubmitsNothing() {
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newFixedThreadPool(1);
+        try (BatchMajorityVote batch = new BatchMajorityVote(executor, 1)) {
+            List<IntSlice> slices = new ArrayList<>();
+            slices.add(IntSlice.of(new int[]{1, 1, 2}));
+            slices.add(null);
+            assertThrows(IllegalArgumentException.class, () -> batch.findMajorities(slices));
+            assertEquals(0, executor.getTaskCount());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Slice positions are relative to the slice")
+    void testSlicePositions() {
+        int[] shared = {9, 9, 9, 5, 1, 5, 5, 9};
+        List<IntSlice> slices = List.of(new IntSlice(shared, 3, 4), new IntSlice(shared, 0, 0));
+
+        try (BatchMajorityVote batch = new BatchMajorityVote()) {
+            BatchMajorityVote.BatchResult result = batch.findMajorities(slices);
+            assertEquals(2, result.size());
+            assertTrue(result.get(0).isPresent());
+            assertEquals(5, result.get(0).get().getElement());
+            assertEquals(0, result.get(0).get().getFirstPosition());
+            assertEquals(3, result.get(0).get().getLastPosition());
+            assertTrue(result.get(1).isEmpty());
+        }
+    }
+
+    @Test
+    @DisplayName("Property: batch results match per-array calls, in order")
+    void testMatchesSequential() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+        int[][] arrays = new int[3000][];
+        long elements = 0;
+        for (int a = 0; a < arrays.length; a++) {
+            int size = rand.nextInt(a % 100 == 0 ? 5000 : 40);
+            arrays[a] = new int[size];
+            int majority = rand.nextInt(3);
+            for (int i = 0; i < size; i++) {
+                arrays[a][i] = rand.nextBoolean() ? majority : rand.nextInt(3);
+            }
+            elements += size;
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (BatchMajorityVote batch = new BatchMajorityVote(executor, 2000)) {
+            BatchMajorityVote.BatchResult result = batch.findMajorities(arrays);
+
+            assertEquals(arrays.length, result.size());
+            assertEquals(elements, result.getTotalElements());
+            assertTrue(result.getTasks() < arrays.length, "Tiny arrays were not grouped");
+
+            int majorities = 0;
+            for (int a = 0; a < arrays.length; a++) {
+                Optional<BoyerMooreMajorityVote.MajorityResult> expected = reference.findMajority(arrays[a]);
+                Optional<BoyerMooreMajorityVote.MajorityResult> actual = result.get(a);
+                assertEquals(expected.isPresent(), actual.isPresent(), "Failed for array " + a);
+                if (expected.isPresent()) {
+                    majorities++;
+                    assertEquals(expected.get().getElement(), actual.get().getElement());
+                    assertEquals(expected.get().getCount(), actual.get().getCount());
+                    assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                    assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+                }
+            }
+            assertEquals(majorities, result.getMajoritiesFound());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Array tracker receives one latency sample per non-empty array")
+    void testArrayTracker() {
+        ConcurrentPerformanceTracker arrayTracker = new ConcurrentPerformanceTracker();
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (BatchMajorityVote batch = new BatchMajorityVote(executor, 4, arrayTracker)) {
+            batch.findMajorities(new int[][]{{1, 1, 2}, {}, {3}, {4, 5}});
+            assertEquals(3, arrayTracker.getSampleCount());
+            assertEquals(12, arrayTracker.getArrayAccesses());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
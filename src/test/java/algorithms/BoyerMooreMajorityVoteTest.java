@@ -5,7 +5,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.Random;
 
 class BoyerMooreMajorityVoteTest {
@@ -291,4 +296,273 @@ class BoyerMooreMajorityVoteTest {
         assertTrue(result.isPresent());
         assertEquals(1, result.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Uninstrumented kernel matches instrumented results")
+    void testUninstrumentedMatchesInstrumented() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote fast = BoyerMooreMajorityVote.uninstrumented();
+
+        for (int trial = 0; trial < 200; trial++) {
+            int size = rand.nextInt(200);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(4);
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextBoolean() ? majority : rand.nextInt(4);
+            }
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = algorithm.findMajority(arr);
+            Optional<BoyerMooreMajorityVote.MajorityResult> actual = fast.findMajority(arr);
+
+            assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+            if (expected.isPresent()) {
+                assertEquals(expected.get().getElement(), actual.get().getElement());
+                assertEquals(expected.get().getCount(), actual.get().getCount());
+                assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Uninstrumented kernel records no per-element counters")
+    void testUninstrumentedCounters() {
+        BoyerMooreMajorityVote fast = BoyerMooreMajorityVote.uninstrumented();
+        fast.findMajority(new int[]{1, 2, 1, 1, 3});
+
+        assertFalse(fast.isInstrumented());
+        assertEquals(0, fast.getTracker().getComparisons());
+        assertEquals(0, fast.getTracker().getArrayAccesses());
+    }
+
+    @Test
+    @DisplayName("OptionalInt and holder overloads agree with Optional API")
+    void testUnboxedOverloads() {
+        MutableMajorityResult holder = new MutableMajorityResult();
+        int[] withMajority = {1, 2, 3, 3, 3, 2, 3};
+        int[] without = {1, 2, 3, 4};
+
+        assertEquals(OptionalInt.of(3), algorithm.findMajorityElementAsInt(withMajority));
+        assertTrue(algorithm.findMajority(withMajority, holder));
+        assertEquals(3, holder.getElement());
+        assertEquals(4, holder.getCount());
+        assertEquals(2, holder.getFirstPosition());
+        assertEquals(6, holder.getLastPosition());
+
+        assertEquals(OptionalInt.empty(), algorithm.findMajorityElementAsInt(without));
+        assertFalse(algorithm.findMajority(without, holder));
+        assertFalse(holder.isPresent());
+    }
+
+    @Test
+    @DisplayName("Steady-state holder calls allocate zero bytes")
+    void testHolderCallsDoNotAllocate() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int[] arr = {4, 1, 4, 2, 4, 4, 3, 4};
+        MutableMajorityResult holder = new MutableMajorityResult();
+        BoyerMooreMajorityVote fast = BoyerMooreMajorityVote.uninstrumented();
+
+        for (int i = 0; i < 20_000; i++) {
+            algorithm.findMajority(arr, holder);
+            fast.findMajority(arr, holder);
+        }
+
+        long before = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            algorithm.findMajority(arr, holder);
+            fast.findMajority(arr, holder);
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(holder.isPresent());
+        // Any per-call allocation would cost at least 16 bytes x 20,000 calls.
+        assertTrue(allocated < 1024, "Allocated " + allocated + " bytes");
+    }
+
+    @Test
+    @DisplayName("Early exit confirms with lower-bound count and last position")
+    void testEarlyExitConfirmation() {
+        int[] arr = {3, 3, 1, 3, 2, 3, 3};
+        Optional<BoyerMooreMajorityVote.MajorityResult> result = algorithm.findMajorityEarlyExit(arr);
+        assertTrue(result.isPresent());
+        assertFalse(result.get().isExact());
+        assertEquals(3, result.get().getElement());
+        assertEquals(4, result.get().getCount());
+        assertEquals(0, result.get().getFirstPosition());
+        assertEquals(5, result.get().getLastPosition());
+
+        BoyerMooreMajorityVote.MajorityResult exact = BoyerMooreMajorityVote.completeResult(arr, result.get());
+        assertTrue(exact.isExact());
+        assertEquals(5, exact.getCount());
+        assertEquals(6, exact.getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Early exit rejects without scanning the whole array")
+    void testEarlyExitRejection() {
+        int[] arr = {1, 2, 3, 4, 5, 6, 7, 8, 9, 1};
+        assertTrue(algorithm.findMajorityEarlyExit(arr).isEmpty());
+        assertTrue(algorithm.getTracker().getArrayAccesses() < 2L * arr.length);
+    }
+
+    @Test
+    @DisplayName("Property: completed early-exit results match full verification")
+    void testEarlyExitMatchesFullVerification() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote fast = BoyerMooreMajorityVote.uninstrumented();
+
+        for (int trial = 0; trial < 300; trial++) {
+            int size = 1 + rand.nextInt(200);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(3);
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextBoolean() ? majority : rand.nextInt(3);
+            }
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = algorithm.findMajority(arr);
+            for (BoyerMooreMajorityVote algo : new BoyerMooreMajorityVote[]{algorithm, fast}) {
+                Optional<BoyerMooreMajorityVote.MajorityResult> early = algo.findMajorityEarlyExit(arr);
+                assertEquals(expected.isPresent(), early.isPresent(), "Failed for trial " + trial);
+                if (expected.isPresent()) {
+                    assertTrue(early.get().getCount() > size / 2);
+                    BoyerMooreMajorityVote.MajorityResult exact =
+                            BoyerMooreMajorityVote.completeResult(arr, early.get());
+                    assertEquals(expected.get().getElement(), exact.getElement());
+                    assertEquals(expected.get().getCount(), exact.getCount());
+                    assertEquals(expected.get().getFirstPosition(), exact.getFirstPosition());
+                    assertEquals(expected.get().getLastPosition(), exact.getLastPosition());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Property: heap and direct buffers in either byte order match int[] results")
+    void testBufferInputMatchesArray() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote fast = BoyerMooreMajorityVote.uninstrumented();
+
+        for (int trial = 0; trial < 200; trial++) {
+            int size = 1 + rand.nextInt(300);
+            int skip = rand.nextInt(5);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(3) - 1;
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextBoolean() ? majority : rand.nextInt(3) - 1;
+            }
+
+            int[] padded = new int[skip + size + 1];
+            System.arraycopy(arr, 0, padded, skip, size);
+            IntBuffer heapInts = IntBuffer.wrap(padded, skip, size);
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = algorithm.findMajority(arr);
+            assertBufferResult(expected, fast.findMajority(heapInts), trial);
+            assertEquals(skip, heapInts.position());
+
+            for (ByteOrder order : new ByteOrder[]{ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN}) {
+                for (boolean direct : new boolean[]{false, true}) {
+                    int bytes = (skip + size) * Integer.BYTES;
+                    ByteBuffer buf = (direct ? ByteBuffer.allocateDirect(bytes) : ByteBuffer.allocate(bytes)).order(order);
+                    buf.position(skip * Integer.BYTES);
+                    for (int value : arr) {
+                        buf.putInt(value);
+                    }
+                    buf.position(skip * Integer.BYTES);
+
+                    assertBufferResult(expected, fast.findMajority(buf), trial);
+                    assertBufferResult(expected, algorithm.findMajority(buf), trial);
+                    assertEquals(skip * Integer.BYTES, buf.position());
+                }
+            }
+        }
+    }
+
+    private static void assertBufferResult(Optional<BoyerMooreMajorityVote.MajorityResult> expected,
+                                           Optional<BoyerMooreMajorityVote.MajorityResult> actual, int trial) {
+        assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+        if (expected.isPresent()) {
+            assertEquals(expected.get().getElement(), actual.get().getElement());
+            assertEquals(expected.get().getCount(), actual.get().getCount());
+            assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+            assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+        }
+    }
+
+    @Test
+    @DisplayName("Property: branch-free kernel yields the majority for any range and lane remainder")
+    void testBranchlessKernelMatchesBranchy() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote fast = BoyerMooreMajorityVote.uninstrumented();
+
+        for (int trial = 0; trial < 200; trial++) {
+            int size = 1 + rand.nextInt(3 * MajorityKernels.BRANCHLESS_MIN_LENGTH);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(4);
+            boolean planted = rand.nextBoolean();
+            for (int i = 0; i < size; i++) {
+                arr[i] = planted && rand.nextInt(3) > 0 ? majority : rand.nextInt(4);
+            }
+            int from = rand.nextInt(size);
+            int to = from + 1 + rand.nextInt(size - from);
+
+            int branchy = MajorityKernels.voteCandidate(MajorityKernels.vote(arr, from, to));
+            int branchless = MajorityKernels.voteCandidate(MajorityKernels.voteBranchless(arr, from, to));
+            boolean branchyWins = MajorityKernels.countOccurrences(arr, from, to, branchy) > (to - from) / 2;
+            boolean branchlessWins = MajorityKernels.countOccurrences(arr, from, to, branchless) > (to - from) / 2;
+            assertEquals(branchyWins, branchlessWins, "Failed for trial " + trial);
+            if (branchyWins) {
+                assertEquals(branchy, branchless, "Failed for trial " + trial);
+            }
+
+            assertBufferResult(algorithm.findMajority(arr), fast.findMajority(arr), trial);
+        }
+    }
+
+    @Test
+    @DisplayName("Kernels are selected by name; unknown or null kernels are rejected")
+    void testKernelSelection() {
+        assertSame(MajorityKernels.SCALAR, MajorityKernels.byName("scalar"));
+        assertThrows(IllegalArgumentException.class, () -> MajorityKernels.byName("simd"));
+        assertThrows(IllegalArgumentException.class, () -> BoyerMooreMajorityVote.uninstrumented(null));
+    }
+
+    @Test
+    @DisplayName("Heap buffers run on the voter's configured kernels")
+    void testBufferUsesConfiguredKernels() {
+        int[] calls = new int[2];
+        VoteKernels counting = new VoteKernels() {
+            @Override
+            public long vote(int[] arr, int from, int to) {
+                calls[0]++;
+                return MajorityKernels.SCALAR.vote(arr, from, to);
+            }
+
+            @Override
+            public int countOccurrences(int[] arr, int from, int to, int value) {
+                calls[1]++;
+                return MajorityKernels.SCALAR.countOccurrences(arr, from, to, value);
+            }
+        };
+        BoyerMooreMajorityVote voter = BoyerMooreMajorityVote.uninstrumented(counting);
+
+        int[] arr = {4, 7, 7, 1, 7, 7};
+        Optional<BoyerMooreMajorityVote.MajorityResult> result = voter.findMajority(IntBuffer.wrap(arr, 1, 5));
+        assertTrue(result.isPresent());
+        assertEquals(7, result.get().getElement());
+        assertEquals(4, result.get().getCount());
+        assertEquals(0, result.get().getFirstPosition());
+        assertArrayEquals(new int[]{1, 1}, calls);
+    }
+
+    @Test
+    @DisplayName("Byte buffers must hold whole int32 values")
+    void testByteBufferValidation() {
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority((ByteBuffer) null));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority((IntBuffer) null));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority(ByteBuffer.allocate(6)));
+        assertTrue(algorithm.findMajority(ByteBuffer.allocate(0)).isEmpty());
+    }
+}
@@ -0,0 +1,126 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+
+class CompositeMajorityVoteTest {
+
+    private CompositeMajorityVote algorithm;
+
+    @BeforeEach
+    void setUp() {
+        algorithm = new CompositeMajorityVote();
+    }
+
+    @Test
+    @DisplayName("Null, missing or ragged columns should throw IllegalArgumentException")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority(null, new int[0]));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority((int[][]) null));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority(new int[0][]));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority(new int[2], new int[3]));
+        assertThrows(IllegalArgumentException.class,
+                () -> algorithm.findMajority(new int[2], new int[2], new int[1]));
+        assertTrue(algorithm.findMajority(new int[0], new int[0]).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Packed pair keeps tuples apart that share a column or a hash")
+    void testPairMajority() {
+        int[] tenant = {7, 7, -1, 7, 7, 7, 7};
+        int[] code = {-1, 500, 7, 500, 500, 404, 500};
+        Optional<CompositeMajorityVote.CompositeMajorityResult> result = algorithm.findMajority(tenant, code);
+
+        assertTrue(result.isPresent());
+        assertArrayEquals(new int[]{7, 500}, result.get().getKey());
+        assertEquals(4, result.get().getCount());
+        assertEquals(1, result.get().getFirstPosition());
+        assertEquals(6, result.get().getLastPosition());
+        assertFalse(algorithm.findMajority(new int[]{1, 1, 1, 1}, new int[]{1, 2, 1, 2}).isPresent());
+        assertFalse(algorithm.findMajority(new int[]{7, -1}, new int[]{-1, 7}).isPresent());
+    }
+
+    @Test
+    @DisplayName("N columns report the tuple, count and positions")
+    void testThreeColumns() {
+        int[] a = {1, 2, 1, 1, 1};
+        int[] b = {5, 5, 5, 6, 5};
+        int[] c = {9, 9, 9, 9, 9};
+        CompositeMajorityVote.CompositeMajorityResult result = algorithm.findMajority(a, b, c).orElseThrow();
+
+        assertArrayEquals(new int[]{1, 5, 9}, result.getKey());
+        assertEquals(3, result.getColumnCount());
+        assertEquals(5, result.getColumn(1));
+        assertEquals(3, result.getCount());
+        assertEquals(0, result.getFirstPosition());
+        assertEquals(4, result.getLastPosition());
+        assertTrue(algorithm.getTracker().getComparisons() > 0);
+    }
+
+    @Test
+    @DisplayName("Property: packed and column-wise paths match a tuple count")
+    void testMatchesTupleCount() {
+        Random rand = new Random(42);
+        for (int trial = 0; trial < 200; trial++) {
+            int size = 1 + rand.nextInt(300);
+            int columnCount = 1 + rand.nextInt(4);
+            int[][] columns = new int[columnCount][size];
+            for (int i = 0; i < size; i++) {
+                boolean planted = rand.nextBoolean();
+                for (int c = 0; c < columnCount; c++) {
+                    columns[c][i] = planted ? c - 1 : rand.nextInt(2) - 1;
+                }
+            }
+
+            Map<List<Integer>, Integer> counts = new HashMap<>();
+            List<Integer> expectedKey = null;
+            for (int i = 0; i < size; i++) {
+                List<Integer> key = rowKey(columns, i);
+                int count = counts.merge(key, 1, Integer::sum);
+                if (count > size / 2) {
+                    expectedKey = key;
+                }
+            }
+
+            Optional<CompositeMajorityVote.CompositeMajorityResult> result = algorithm.findMajority(columns);
+            assertEquals(expectedKey != null, result.isPresent(), "Failed for trial " + trial);
+            if (expectedKey != null) {
+                CompositeMajorityVote.CompositeMajorityResult r = result.get();
+                assertEquals(expectedKey, rowKey(transpose(r.getKey()), 0));
+                assertEquals(counts.get(expectedKey).intValue(), r.getCount());
+                assertEquals(expectedKey, rowKey(columns, r.getFirstPosition()));
+                assertEquals(expectedKey, rowKey(columns, r.getLastPosition()));
+                for (int i = 0; i < r.getFirstPosition(); i++) {
+                    assertNotEquals(expectedKey, rowKey(columns, i));
+                }
+                for (int i = r.getLastPosition() + 1; i < size; i++) {
+                    assertNotEquals(expectedKey, rowKey(columns, i));
+                }
+            }
+        }
+    }
+
+    private static List<Integer> rowKey(int[][] columns, int row) {
+        Integer[] key = new Integer[columns.length];
+        for (int c = 0; c < columns.length; c++) {
+            key[c] = columns[c][row];
+        }
+        return List.of(key);
+    }
+
+    private static int[][] transpose(int[] key) {
+        int[][] columns = new int[key.length][1];
+        for (int c = 0; c < key.length; c++) {
+            columns[c][0] = key[c];
+        }
+        return columns;
+    }
+}
@@ -0,0 +1,79 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+class ConcurrentMajorityAccumulatorTest {
+
+    @Test
+    @DisplayName("Non-positive stripe count should throw")
+    void testInvalidStripes() {
+        assertThrows(IllegalArgumentException.class, () -> new ConcurrentMajorityAccumulator(0));
+    }
+
+    @Test
+    @DisplayName("Concurrent producers agree with the sequential algorithm")
+    void testConcurrentProducers() throws InterruptedException {
+        int producers = 8;
+        int perProducer = 50_000;
+        int[] data = new int[producers * perProducer];
+        Random rand = new Random(42);
+        for (int i = 0; i < data.length; i++) {
+            data[i] = rand.nextInt(100) < 55 ? 3 : rand.nextInt(10);
+        }
+
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator(4);
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            int start = p * perProducer;
+            boolean single = p % 2 == 0;
+            Thread t = new Thread(() -> {
+                if (single) {
+                    for (int i = start; i < start + perProducer; i++) {
+                        acc.add(data[i]);
+                    }
+                } else {
+                    for (int i = start; i < start + perProducer; i += 100) {
+                        acc.add(data, i, 100);
+                    }
+                }
+            });
+            threads.add(t);
+            t.start();
+        }
+        for (Thread t : threads) {
+            t.join();
+        }
+
+        assertEquals(data.length, acc.getElementCount());
+        assertTrue(acc.snapshot().hasCandidate());
+        assertEquals(3, acc.snapshot().getCandidate());
+
+        Optional<BoyerMooreMajorityVote.MajorityResult> expected = new BoyerMooreMajorityVote().findMajority(data);
+        Optional<BoyerMooreMajorityVote.MajorityResult> actual = acc.snapshotAndVerify(List.of(IntSlice.of(data)));
+        assertTrue(actual.isPresent());
+        assertEquals(expected.get().getElement(), actual.get().getElement());
+        assertEquals(expected.get().getCount(), actual.get().getCount());
+        assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+        assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+    }
+
+    @Test
+    @DisplayName("No majority is reported when verification fails")
+    void testNoMajority() {
+        ConcurrentMajorityAccumulator acc = new ConcurrentMajorityAccumulator();
+        int[] data = {1, 2, 3, 1, 2, 3};
+        acc.add(data, 0, data.length);
+        assertTrue(acc.snapshotAndVerify(List.of(IntSlice.of(data))).isEmpty());
+
+        acc.reset();
+        assertEquals(0, acc.getElementCount());
+        assertFalse(acc.snapshot().hasCandidate());
+    }
+}
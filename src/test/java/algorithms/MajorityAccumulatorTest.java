@@ -0,0 +1,113 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.Random;
+
+class MajorityAccumulatorTest {
+
+    @Test
+    @DisplayName("Empty stream has no candidate and no majority")
+    void testEmptyStream() {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        assertFalse(acc.hasCandidate());
+        acc.startVerification();
+        assertTrue(acc.verifiedResult().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Slices with offsets are verified with stream-relative positions")
+    void testSlicesWithOffsets() {
+        int[] buffer = {9, 9, 1, 2, 1, 9};
+        int[] second = {1, 3, 1, 1};
+
+        MajorityAccumulator acc = new MajorityAccumulator();
+        acc.add(buffer, 2, 3);   // 1, 2, 1
+        acc.add(second, 0, 4);   // 1, 3, 1, 1
+        assertTrue(acc.hasCandidate());
+        assertEquals(1, acc.getCandidate());
+        assertEquals(7, acc.getElementCount());
+
+        acc.startVerification();
+        acc.verify(buffer, 2, 3);
+        acc.verify(second, 0, 4);
+
+        Optional<BoyerMooreMajorityVote.MajorityResult> result = acc.verifiedResult();
+        assertTrue(result.isPresent());
+        assertEquals(1, result.get().getElement());
+        assertEquals(5, result.get().getCount());
+        assertEquals(0, result.get().getFirstPosition());
+        assertEquals(6, result.get().getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Out-of-range slice should throw")
+    void testInvalidSlice() {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        assertThrows(IndexOutOfBoundsException.class, () -> acc.add(new int[3], 2, 2));
+    }
+
+    @Test
+    @DisplayName("Null array should throw IllegalArgumentException from every overload")
+    void testNullArray() {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        assertThrows(IllegalArgumentException.class, () -> acc.add(null));
+        assertThrows(IllegalArgumentException.class, () -> acc.add((int[]) null, 0, 0));
+        acc.startVerification();
+        assertThrows(IllegalArgumentException.class, () -> acc.verify(null));
+        assertThrows(IllegalArgumentException.class, () -> acc.verify((int[]) null, 0, 0));
+    }
+
+    @Test
+    @DisplayName("Incomplete replay is rejected")
+    void testIncompleteReplay() {
+        MajorityAccumulator acc = new MajorityAccumulator();
+        acc.add(new int[]{1, 1, 1});
+        acc.startVerification();
+        acc.verify(new int[]{1, 1});
+        assertThrows(IllegalStateException.class, acc::verifiedResult);
+    }
+
+    @Test
+    @DisplayName("Property: merged accumulators match the in-memory algorithm")
+    void testMergeMatchesInMemory() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+
+        for (int trial = 0; trial < 200; trial++) {
+            int size = 1 + rand.nextInt(500);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(3);
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextBoolean() ? majority : rand.nextInt(3);
+            }
+
+            int split = rand.nextInt(size + 1);
+            MajorityAccumulator left = new MajorityAccumulator();
+            MajorityAccumulator right = new MajorityAccumulator();
+            for (int i = 0; i < split; i += 7) {
+                left.add(arr, i, Math.min(7, split - i));
+            }
+            right.add(arr, split, size - split);
+            left.merge(right);
+
+            left.startVerification();
+            for (int i = 0; i < size; i += 13) {
+                left.verify(arr, i, Math.min(13, size - i));
+            }
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = reference.findMajority(arr);
+            Optional<BoyerMooreMajorityVote.MajorityResult> actual = left.verifiedResult();
+            assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+            if (expected.isPresent()) {
+                assertEquals(expected.get().getElement(), actual.get().getElement());
+                assertEquals(expected.get().getCount(), actual.get().getCount());
+                assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+            }
+        }
+    }
+}
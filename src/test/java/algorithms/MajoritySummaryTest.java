@@ -0,0 +1,106 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+class MajoritySummaryTest {
+
+    @Test
+    @DisplayName("Summary and count round-trip through the binary format")
+    void testRoundTrip() {
+        IntBuffer shard = IntBuffer.wrap(new int[]{5, 1, 5, 5, 2, 5, 7});
+        MajoritySummary summary = MajoritySummary.summarize(shard, 4);
+        MajoritySummary decoded = MajoritySummary.fromBytes(summary.toBytes());
+
+        assertEquals(summary.getCandidate(), decoded.getCandidate());
+        assertEquals(summary.getCandidateVotes(), decoded.getCandidateVotes());
+        assertEquals(7, decoded.getElementCount());
+        assertEquals(summary.getHeavyHitters().topK(4).toString(), decoded.getHeavyHitters().topK(4).toString());
+        assertNull(MajoritySummary.fromBytes(MajoritySummary.summarize(shard, 0).toBytes()).getHeavyHitters());
+
+        MajoritySummary.CandidateCount count = MajoritySummary.CandidateCount.fromBytes(
+                MajoritySummary.CandidateCount.count(shard, 5).toBytes());
+        assertEquals(4, count.getCount());
+        assertEquals(0, count.getFirstPosition());
+        assertEquals(5, count.getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Foreign, newer or truncated records are rejected")
+    void testRejectsBadInput() {
+        byte[] bytes = MajoritySummary.summarize(IntBuffer.wrap(new int[]{1, 2, 1}), 2).toBytes();
+
+        byte[] newer = bytes.clone();
+        ByteBuffer.wrap(newer).order(ByteOrder.LITTLE_ENDIAN).putShort(4, (short) (MajoritySummary.VERSION + 1));
+        assertThrows(IllegalArgumentException.class, () -> MajoritySummary.fromBytes(newer));
+
+        byte[] foreign = bytes.clone();
+        foreign[0] = 'X';
+        assertThrows(IllegalArgumentException.class, () -> MajoritySummary.fromBytes(foreign));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> MajoritySummary.fromBytes(Arrays.copyOf(bytes, bytes.length - 3)));
+        assertThrows(IllegalArgumentException.class, () -> MajoritySummary.CandidateCount.fromBytes(bytes));
+    }
+
+    @Test
+    @DisplayName("Property: merged shard summaries and counts match the whole-array result")
+    void testShardedMatchesArray() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+
+        for (int trial = 0; trial < 100; trial++) {
+            int size = 1 + rand.nextInt(2000);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(3);
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextBoolean() ? majority : rand.nextInt(3);
+            }
+
+            int shards = 1 + rand.nextInt(5);
+            List<IntBuffer> parts = new ArrayList<>();
+            MajoritySummary global = null;
+            for (int s = 0; s < shards; s++) {
+                int from = (int) ((long) size * s / shards);
+                int to = (int) ((long) size * (s + 1) / shards);
+                IntBuffer part = IntBuffer.wrap(arr, from, to - from).slice();
+                parts.add(part);
+                MajoritySummary summary = MajoritySummary.fromBytes(MajoritySummary.summarize(part, 8).toBytes());
+                if (global == null) {
+                    global = summary;
+                } else {
+                    global.merge(summary);
+                }
+            }
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = reference.findMajority(arr);
+            Optional<MappedFileMajorityVote.FileMajorityResult> actual = Optional.empty();
+            if (global.hasCandidate()) {
+                List<MajoritySummary.CandidateCount> counts = new ArrayList<>();
+                for (IntBuffer part : parts) {
+                    counts.add(MajoritySummary.CandidateCount.count(part, global.getCandidate()));
+                }
+                actual = global.combine(counts);
+            }
+
+            assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+            if (expected.isPresent()) {
+                assertEquals(expected.get().getElement(), actual.get().getElement());
+                assertEquals(expected.get().getCount(), actual.get().getCount());
+                assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+            }
+            assertEquals(size, global.getHeavyHitters().getStreamLength());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class MappedFileMajorityVoteTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path writeInts(int[] arr) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(arr.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buf.asIntBuffer().put(arr);
+        Path file = Files.createTempFile(tempDir, "ints", ".bin");
+        Files.write(file, buf.array());
+        return file;
+    }
+
+    @Test
+    @DisplayName("Empty file should return empty Optional")
+    void testEmptyFile() throws IOException {
+        assertTrue(new MappedFileMajorityVote().findMajority(writeInts(new int[0])).isEmpty());
+    }
+
+    @Test
+    @DisplayName("File length not a multiple of 4 should throw")
+    void testTruncatedFile() throws IOException {
+        Path file = Files.write(tempDir.resolve("bad.bin"), new byte[]{1, 2, 3});
+        assertThrows(IllegalArgumentException.class, () -> new MappedFileMajorityVote().findMajority(file));
+    }
+
+    @Test
+    @DisplayName("Property: sequential and parallel segments match the array version")
+    void testMatchesArrayVersion() throws IOException {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try {
+            for (int trial = 0; trial < 30; trial++) {
+                int size = 1 + rand.nextInt(5000);
+                int[] arr = new int[size];
+                int majority = rand.nextInt(3) - 1;
+                for (int i = 0; i < size; i++) {
+                    arr[i] = rand.nextBoolean() ? majority : rand.nextInt(3) - 1;
+                }
+                Path file = writeInts(arr);
+                int segment = 1 + rand.nextInt(700);
+
+                Optional<BoyerMooreMajorityVote.MajorityResult> expected = reference.findMajority(arr);
+                for (ForkJoinPool p : new ForkJoinPool[]{null, pool}) {
+                    Optional<MappedFileMajorityVote.FileMajorityResult> actual =
+                            new MappedFileMajorityVote(segment, p).findMajority(file);
+
+                    assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+                    if (expected.isPresent()) {
+                        assertEquals(expected.get().getElement(), actual.get().getElement());
+                        assertEquals(expected.get().getCount(), actual.get().getCount());
+                        assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                        assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+class MisraGriesHeavyHittersTest {
+
+    @Test
+    @DisplayName("k below 2 should throw IllegalArgumentException")
+    void testInvalidK() {
+        assertThrows(IllegalArgumentException.class, () -> new MisraGriesHeavyHitters(1));
+    }
+
+    @Test
+    @DisplayName("Empty array should return no heavy hitters")
+    void testEmptyArray() {
+        assertTrue(new MisraGriesHeavyHitters(3).findHeavyHitters(new int[0]).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Elements above n/3 are reported with counts and positions")
+    void testKEqualsThree() {
+        int[] arr = {1, 2, 1, 3, 2, 1, 2, 4, 1};
+        List<BoyerMooreMajorityVote.MajorityResult> results = new MisraGriesHeavyHitters(3).findHeavyHitters(arr);
+
+        assertEquals(1, results.size());
+        assertEquals(1, results.get(0).getElement());
+        assertEquals(4, results.get(0).getCount());
+        assertEquals(0, results.get(0).getFirstPosition());
+        assertEquals(8, results.get(0).getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Decrement keeps probe chains that wrap around the table intact")
+    void testWrappedProbeChain() {
+        // At capacity 8 the home slots are 1->6, 14->6, 15->7, 6->2, 7->3: 15 ends up at slot 0.
+        int[] arr = {1, 14, 14, 15, 15, 15, 15, 6, 6, 7};
+        List<BoyerMooreMajorityVote.MajorityResult> results = new MisraGriesHeavyHitters(5).findHeavyHitters(arr);
+
+        assertEquals(1, results.size());
+        assertEquals(15, results.get(0).getElement());
+        assertEquals(4, results.get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("k = 2 agrees with Boyer-Moore majority")
+    void testKEqualsTwoMatchesMajority() {
+        int[] arr = {2, 1, 2, 3, 2, 4, 2};
+        List<BoyerMooreMajorityVote.MajorityResult> results = new MisraGriesHeavyHitters(2).findHeavyHitters(arr);
+
+        assertEquals(1, results.size());
+        assertEquals(2, results.get(0).getElement());
+        assertEquals(4, results.get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("Property: results match an exact frequency count")
+    void testMatchesExactCounts() {
+        Random rand = new Random(42);
+        for (int trial = 0; trial < 100; trial++) {
+            int k = 2 + rand.nextInt(50);
+            int size = 1 + rand.nextInt(3000);
+            int[] arr = new int[size];
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextInt(3) == 0 ? rand.nextInt(k / 2 + 1) : rand.nextInt(1000) - 500;
+            }
+
+            Map<Integer, Integer> exact = new HashMap<>();
+            for (int value : arr) {
+                exact.merge(value, 1, Integer::sum);
+            }
+            long expected = exact.values().stream().filter(c -> c > size / k).count();
+
+            List<BoyerMooreMajorityVote.MajorityResult> results = new MisraGriesHeavyHitters(k).findHeavyHitters(arr);
+            assertEquals(expected, results.size(), "Failed for trial " + trial);
+            for (BoyerMooreMajorityVote.MajorityResult result : results) {
+                assertEquals(exact.get(result.getElement()), result.getCount());
+                assertEquals(result.getElement(), arr[result.getFirstPosition()]);
+                assertEquals(result.getElement(), arr[result.getLastPosition()]);
+            }
+        }
+    }
+}
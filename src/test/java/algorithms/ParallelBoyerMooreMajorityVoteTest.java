@@ -0,0 +1,90 @@
+package algorithms;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+class ParallelBoyerMooreMajorityVoteTest {
+
+    private ForkJoinPool pool;
+    private ParallelBoyerMooreMajorityVote parallel;
+
+    @BeforeEach
+    void setUp() {
+        pool = new ForkJoinPool(4);
+        parallel = new ParallelBoyerMooreMajorityVote(pool, 16);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdown();
+    }
+
+    @Test
+    @DisplayName("Empty array should return empty Optional")
+    void testEmptyArray() {
+        assertTrue(parallel.findMajority(new int[0]).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Null array should throw IllegalArgumentException")
+    void testNullArray() {
+        assertThrows(IllegalArgumentException.class, () -> parallel.findMajority(null));
+    }
+
+    @Test
+    @DisplayName("Invalid threshold should be rejected")
+    void testInvalidThreshold() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new ParallelBoyerMooreMajorityVote(pool, 0));
+    }
+
+    @Test
+    @DisplayName("Majority split across many chunks keeps first and last positions")
+    void testPositionsAcrossChunks() {
+        int[] arr = new int[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (i % 3 == 0 || i % 3 == 1) ? 7 : i;
+        }
+
+        Optional<BoyerMooreMajorityVote.MajorityResult> result = parallel.findMajority(arr);
+        assertTrue(result.isPresent());
+        assertEquals(7, result.get().getElement());
+        assertEquals(0, result.get().getFirstPosition());
+        assertEquals(999, result.get().getLastPosition());
+        assertEquals(667, result.get().getCount());
+    }
+
+    @Test
+    @DisplayName("Property: parallel result matches sequential result")
+    void testMatchesSequential() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote sequential = new BoyerMooreMajorityVote();
+
+        for (int trial = 0; trial < 200; trial++) {
+            int size = 1 + rand.nextInt(2000);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(5);
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextInt(100) < 52 ? majority : rand.nextInt(5);
+            }
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = sequential.findMajority(arr);
+            Optional<BoyerMooreMajorityVote.MajorityResult> actual = parallel.findMajority(arr);
+
+            assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+            if (expected.isPresent()) {
+                assertEquals(expected.get().getElement(), actual.get().getElement());
+                assertEquals(expected.get().getCount(), actual.get().getCount());
+                assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+            }
+        }
+    }
+}
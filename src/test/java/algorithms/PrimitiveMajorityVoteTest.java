@@ -0,0 +1,121 @@
+package algorithms;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Optional;
+import java.util.Random;
+
+class PrimitiveMajorityVoteTest {
+
+    private PrimitiveMajorityVote algorithm;
+
+    @BeforeEach
+    void setUp() {
+        algorithm = new PrimitiveMajorityVote();
+    }
+
+    @Test
+    @DisplayName("Null arrays should throw IllegalArgumentException")
+    void testNullArrays() {
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority((long[]) null));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority((short[]) null));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority((byte[]) null));
+        assertThrows(IllegalArgumentException.class, () -> algorithm.findMajority((char[]) null));
+    }
+
+    @Test
+    @DisplayName("long[] keeps 64-bit values that would collide as int")
+    void testLongMajority() {
+        long big = (1L << 40) + 7;
+        long[] arr = {7, big, big, 7, big};
+        Optional<PrimitiveMajorityVote.LongMajorityResult> result = algorithm.findMajority(arr);
+        assertTrue(result.isPresent());
+        assertEquals(big, result.get().getElement());
+        assertEquals(3, result.get().getCount());
+        assertEquals(1, result.get().getFirstPosition());
+        assertEquals(4, result.get().getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Negative bytes are found by the counting table")
+    void testByteCountingTable() {
+        byte[] arr = new byte[PrimitiveMajorityVote.BYTE_TABLE_THRESHOLD * 4];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (i % 3 == 0) ? (byte) 1 : (byte) -5;
+        }
+        Optional<PrimitiveMajorityVote.ByteMajorityResult> result = algorithm.findMajority(arr);
+        assertTrue(result.isPresent());
+        assertEquals((byte) -5, result.get().getElement());
+        assertEquals(1, result.get().getFirstPosition());
+        assertEquals((arr.length - 1) % 3 == 0 ? arr.length - 2 : arr.length - 1, result.get().getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Property: short[] and char[] votes agree with int[] results")
+    void testShortMatchesInt() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+
+        for (int size : new int[]{1, 17, 1000, 1 << 18}) {
+            for (int trial = 0; trial < 5; trial++) {
+                short[] shorts = new short[size];
+                char[] chars = new char[size];
+                int[] ints = new int[size];
+                short majority = (short) (rand.nextInt(3) - 1);
+                for (int i = 0; i < size; i++) {
+                    shorts[i] = rand.nextBoolean() ? majority : (short) (rand.nextInt(3) - 1);
+                    chars[i] = (char) shorts[i];
+                    ints[i] = shorts[i];
+                }
+
+                Optional<BoyerMooreMajorityVote.MajorityResult> expected = reference.findMajority(ints);
+                Optional<PrimitiveMajorityVote.ShortMajorityResult> actual = algorithm.findMajority(shorts);
+                Optional<PrimitiveMajorityVote.CharMajorityResult> actualChars = algorithm.findMajority(chars);
+
+                assertEquals(expected.isPresent(), actual.isPresent(), "Failed for size " + size);
+                assertEquals(expected.isPresent(), actualChars.isPresent(), "Failed for size " + size);
+                if (expected.isPresent()) {
+                    assertEquals(expected.get().getElement(), actual.get().getElement());
+                    assertEquals(expected.get().getCount(), actual.get().getCount());
+                    assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                    assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+                    assertEquals((char) expected.get().getElement(), actualChars.get().getElement());
+                    assertEquals(expected.get().getCount(), actualChars.get().getCount());
+                    assertEquals(expected.get().getFirstPosition(), actualChars.get().getFirstPosition());
+                    assertEquals(expected.get().getLastPosition(), actualChars.get().getLastPosition());
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Property: byte[] table and vote paths agree with int[] results")
+    void testByteMatchesInt() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+
+        for (int trial = 0; trial < 100; trial++) {
+            int size = 1 + rand.nextInt(trial % 2 == 0 ? 300 : 2 * PrimitiveMajorityVote.BYTE_TABLE_THRESHOLD);
+            byte[] bytes = new byte[size];
+            int[] ints = new int[size];
+            byte majority = (byte) (rand.nextInt(3) - 1);
+            for (int i = 0; i < size; i++) {
+                bytes[i] = rand.nextBoolean() ? majority : (byte) (rand.nextInt(3) - 1);
+                ints[i] = bytes[i];
+            }
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = reference.findMajority(ints);
+            Optional<PrimitiveMajorityVote.ByteMajorityResult> actual = algorithm.findMajority(bytes);
+            assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+            if (expected.isPresent()) {
+                assertEquals(expected.get().getElement(), actual.get().getElement());
+                assertEquals(expected.get().getCount(), actual.get().getCount());
+                assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+class RangeMajorityIndexTest {
+
+    @Test
+    @DisplayName("Invalid ranges should throw")
+    void testInvalidRange() {
+        RangeMajorityIndex index = new RangeMajorityIndex(new int[]{1, 2, 3});
+        assertThrows(IndexOutOfBoundsException.class, () -> index.query(2, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> index.query(0, 4));
+        assertTrue(index.query(1, 1).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Tree size is a power of two up to the limit, larger inputs are rejected")
+    void testLeafCount() {
+        assertEquals(1, RangeMajorityIndex.leafCount(0));
+        assertEquals(1, RangeMajorityIndex.leafCount(1));
+        assertEquals(8, RangeMajorityIndex.leafCount(5));
+        assertEquals(1 << 29, RangeMajorityIndex.leafCount(RangeMajorityIndex.MAX_LENGTH));
+        assertThrows(IllegalArgumentException.class,
+                () -> RangeMajorityIndex.leafCount(RangeMajorityIndex.MAX_LENGTH + 1));
+        assertThrows(IllegalArgumentException.class, () -> RangeMajorityIndex.leafCount(1 << 30));
+    }
+
+    @Test
+    @DisplayName("Positions are absolute, not relative to the range")
+    void testAbsolutePositions() {
+        int[] arr = {5, -1, 3, -1, -1, 2, 5};
+        Optional<BoyerMooreMajorityVote.MajorityResult> result = new RangeMajorityIndex(arr).query(1, 6);
+        assertTrue(result.isPresent());
+        assertEquals(-1, result.get().getElement());
+        assertEquals(3, result.get().getCount());
+        assertEquals(1, result.get().getFirstPosition());
+        assertEquals(4, result.get().getLastPosition());
+    }
+
+    @Test
+    @DisplayName("Build records time and index size on the tracker")
+    void testBuildMetrics() {
+        RangeMajorityIndex index = new RangeMajorityIndex(new int[1000]);
+        assertTrue(index.getTracker().getMemoryAllocations() >= index.getMemoryBytes());
+        assertTrue(index.getTracker().getExecutionTime() > 0);
+    }
+
+    @Test
+    @DisplayName("Property: every range matches findMajority on a copy")
+    void testMatchesCopiedRanges() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+        int[] arr = new int[150];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (i / 25) % 2 == 0 && rand.nextInt(10) < 7 ? Integer.MIN_VALUE : rand.nextInt(4) - 2;
+        }
+        RangeMajorityIndex index = new RangeMajorityIndex(arr);
+
+        for (int from = 0; from <= arr.length; from++) {
+            for (int to = from; to <= arr.length; to++) {
+                Optional<BoyerMooreMajorityVote.MajorityResult> expected =
+                        reference.findMajority(Arrays.copyOfRange(arr, from, to));
+                Optional<BoyerMooreMajorityVote.MajorityResult> actual = index.query(from, to);
+
+                assertEquals(expected.isPresent(), actual.isPresent(), "Failed for [" + from + ", " + to + ")");
+                if (expected.isPresent()) {
+                    assertEquals(expected.get().getElement(), actual.get().getElement());
+                    assertEquals(expected.get().getCount(), actual.get().getCount());
+                    assertEquals(expected.get().getFirstPosition() + from, actual.get().getFirstPosition());
+                    assertEquals(expected.get().getLastPosition() + from, actual.get().getLastPosition());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+class SlidingWindowMajorityTest {
+
+    @Test
+    @DisplayName("Non-positive window should throw IllegalArgumentException")
+    void testInvalidWindow() {
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowMajority(0));
+    }
+
+    @Test
+    @DisplayName("Majority appears and disappears as the window slides")
+    void testWindowSlides() {
+        SlidingWindowMajority window = new SlidingWindowMajority(3);
+        window.push(1);
+        assertEquals(1, window.majority().getAsInt());
+        window.push(2);
+        assertFalse(window.hasMajority());
+        window.push(2);
+        assertEquals(2, window.getMajority());
+        assertEquals(2, window.majorityCount());
+        window.push(3);   // window: 2, 2, 3
+        assertEquals(2, window.getMajority());
+        window.push(3);   // window: 2, 3, 3
+        assertEquals(3, window.getMajority());
+        window.push(4);   // window: 3, 3, 4
+        assertEquals(3, window.getMajority());
+        window.push(5);   // window: 3, 4, 5
+        assertFalse(window.hasMajority());
+        assertEquals(0, window.count(2));
+    }
+
+    @Test
+    @DisplayName("Property: matches recomputing the window from scratch")
+    void testMatchesRecompute() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+
+        for (int w : new int[]{1, 2, 5, 64}) {
+            SlidingWindowMajority window = new SlidingWindowMajority(w);
+            int[] stream = new int[2000];
+            for (int i = 0; i < stream.length; i++) {
+                // Phases with and without a dominant value; wide value range exercises deletions.
+                stream[i] = (i / 200) % 2 == 0 && rand.nextInt(10) < 7 ? 7 : rand.nextInt(50);
+                window.push(stream[i]);
+
+                int from = Math.max(0, i + 1 - w);
+                Optional<BoyerMooreMajorityVote.MajorityResult> expected =
+                        reference.findMajority(Arrays.copyOfRange(stream, from, i + 1));
+
+                assertEquals(expected.isPresent(), window.hasMajority(), "Failed at " + i + " for window " + w);
+                if (expected.isPresent()) {
+                    assertEquals(expected.get().getElement(), window.getMajority());
+                    assertEquals(expected.get().getCount(), window.majorityCount());
+                }
+            }
+            assertEquals(stream.length, window.getElementsSeen());
+        }
+    }
+}
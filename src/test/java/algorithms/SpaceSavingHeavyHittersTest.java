@@ -0,0 +1,171 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+class SpaceSavingHeavyHittersTest {
+
+    private static Map<Integer, Long> exactCounts(int[] arr) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (int value : arr) {
+            counts.merge(value, 1L, Long::sum);
+        }
+        return counts;
+    }
+
+    private static int[] zipfLike(Random rand, int size) {
+        int[] arr = new int[size];
+        for (int i = 0; i < size; i++) {
+            // Roughly geometric: small values dominate, with a long random tail.
+            int value = Integer.numberOfTrailingZeros(rand.nextInt() | (1 << 20));
+            arr[i] = value < 12 ? value : rand.nextInt(100_000);
+        }
+        return arr;
+    }
+
+    private static void assertBounds(SpaceSavingHeavyHitters summary, Map<Integer, Long> exact, long n) {
+        assertTrue(summary.getMaxError() <= n / summary.getCapacity());
+        for (SpaceSavingHeavyHitters.HeavyHitter hitter : summary.topK(summary.getCapacity())) {
+            long truth = exact.getOrDefault(hitter.getElement(), 0L);
+            assertTrue(hitter.getCount() >= truth, "Undercount for " + hitter);
+            assertTrue(hitter.getGuaranteedCount() <= truth, "Lower bound too high for " + hitter);
+        }
+        for (Map.Entry<Integer, Long> entry : exact.entrySet()) {
+            if (entry.getValue() > n / summary.getCapacity()) {
+                assertTrue(summary.topK(summary.getCapacity()).stream()
+                        .anyMatch(h -> h.getElement() == entry.getKey()), "Missed heavy hitter " + entry.getKey());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Invalid capacity, k or null input should throw IllegalArgumentException")
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingHeavyHitters(0));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingHeavyHitters(4).topK(0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SpaceSavingHeavyHitters(4).merge(new SpaceSavingHeavyHitters(5)));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingHeavyHitters(4).add(null));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingHeavyHitters(4).add(null, 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new SpaceSavingHeavyHitters(4).merge(null));
+        assertThrows(IllegalArgumentException.class, () -> new CountMinSketch(16, 2).merge(null));
+        assertThrows(IllegalArgumentException.class, () -> SpaceSavingHeavyHitters.findMajorityOrTopK(null, 2, 4));
+    }
+
+    @Test
+    @DisplayName("Counts are exact while the summary has room")
+    void testExactBelowCapacity() {
+        SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(8);
+        summary.add(new int[]{3, 1, 3, 2, 3, 1});
+
+        List<SpaceSavingHeavyHitters.HeavyHitter> top = summary.topK(2);
+        assertEquals(2, top.size());
+        assertEquals(3, top.get(0).getElement());
+        assertEquals(3, top.get(0).getCount());
+        assertEquals(0, top.get(0).getError());
+        assertEquals(1, top.get(1).getElement());
+        assertEquals(2, top.get(1).getCount());
+    }
+
+    @Test
+    @DisplayName("Fallback returns the exact majority, or the top k when there is none")
+    void testMajorityOrTopK() {
+        List<SpaceSavingHeavyHitters.HeavyHitter> majority =
+                SpaceSavingHeavyHitters.findMajorityOrTopK(new int[]{4, 1, 4, 2, 4}, 3, 16);
+        assertEquals(1, majority.size());
+        assertEquals(4, majority.get(0).getElement());
+        assertEquals(3, majority.get(0).getCount());
+
+        List<SpaceSavingHeavyHitters.HeavyHitter> top =
+                SpaceSavingHeavyHitters.findMajorityOrTopK(new int[]{4, 1, 4, 2, 5, 1, 4}, 2, 16);
+        assertEquals(2, top.size());
+        assertEquals(4, top.get(0).getElement());
+        assertEquals(1, top.get(1).getElement());
+    }
+
+    @Test
+    @DisplayName("Property: single-pass bounds hold against exact counts")
+    void testBoundsSinglePass() {
+        Random rand = new Random(42);
+        for (int trial = 0; trial < 30; trial++) {
+            int capacity = 1 + rand.nextInt(64);
+            int[] arr = zipfLike(rand, 1 + rand.nextInt(20_000));
+
+            SpaceSavingHeavyHitters summary = new SpaceSavingHeavyHitters(capacity);
+            summary.add(arr);
+            assertEquals(arr.length, summary.getStreamLength());
+            assertBounds(summary, exactCounts(arr), arr.length);
+        }
+    }
+
+    @Test
+    @DisplayName("Property: merged chunk summaries keep the bounds, with and without a sketch")
+    void testBoundsAfterMerge() {
+        Random rand = new Random(42);
+        for (int trial = 0; trial < 30; trial++) {
+            int capacity = 4 + rand.nextInt(64);
+            int[] arr = zipfLike(rand, 1 + rand.nextInt(20_000));
+            boolean withSketch = trial % 2 == 0;
+
+            SpaceSavingHeavyHitters total = null;
+            int chunks = 1 + rand.nextInt(6);
+            for (int c = 0; c < chunks; c++) {
+                int from = (int) ((long) arr.length * c / chunks);
+                int to = (int) ((long) arr.length * (c + 1) / chunks);
+                SpaceSavingHeavyHitters part = new SpaceSavingHeavyHitters(capacity,
+                        withSketch ? new CountMinSketch(256, 4) : null);
+                part.add(arr, from, to - from);
+                if (total == null) {
+                    total = part;
+                } else {
+                    total.merge(part);
+                }
+            }
+
+            assertEquals(arr.length, total.getStreamLength());
+            assertBounds(total, exactCounts(arr), arr.length);
+        }
+    }
+
+    @Test
+    @DisplayName("Merge keeps the highest counts, including counts past 31 bits")
+    void testMergeKeepsHighestCounts() {
+        long big = 3L << 31;
+        SpaceSavingHeavyHitters left = SpaceSavingHeavyHitters.ofEntries(3,
+                new int[]{1, 2, 3}, new long[]{big, 5, big + 1}, new long[3], 3, 2 * big + 6);
+        SpaceSavingHeavyHitters right = SpaceSavingHeavyHitters.ofEntries(3,
+                new int[]{4, 5, 6}, new long[]{big - 1, 7, 6}, new long[3], 3, big + 12);
+        left.merge(right);
+
+        List<SpaceSavingHeavyHitters.HeavyHitter> top = left.topK(3);
+        assertEquals(List.of(3, 1, 4), top.stream().map(SpaceSavingHeavyHitters.HeavyHitter::getElement)
+                .collect(Collectors.toList()));
+        assertEquals(big + 1 + 6, top.get(0).getCount());
+        assertEquals(6, top.get(0).getError());
+    }
+
+    @Test
+    @DisplayName("Property: Count-Min estimates never undercount")
+    void testCountMinNeverUndercounts() {
+        Random rand = new Random(42);
+        int[] arr = zipfLike(rand, 50_000);
+        CountMinSketch sketch = CountMinSketch.withErrorBounds(0.001, 0.01);
+        for (int value : arr) {
+            sketch.add(value, 1);
+        }
+
+        for (Map.Entry<Integer, Long> entry : exactCounts(arr).entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertTrue(estimate >= entry.getValue());
+            assertTrue(estimate - entry.getValue() <= 0.01 * arr.length, "Overcount too large for " + entry.getKey());
+        }
+        assertEquals(arr.length, sketch.getTotal());
+    }
+}
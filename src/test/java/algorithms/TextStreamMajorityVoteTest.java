@@ -0,0 +1,94 @@
+package algorithms;
+
+import metrics.PerformanceTracker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Random;
+
+class TextStreamMajorityVoteTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static int[] parseAll(String text, int bufferBytes) throws IOException {
+        IntTextParser parser = new IntTextParser(
+                Channels.newChannel(new ByteArrayInputStream(text.getBytes(StandardCharsets.US_ASCII))), bufferBytes);
+        int[] out = new int[0];
+        int[] batch = new int[3];
+        for (int n; (n = parser.next(batch)) >= 0; ) {
+            out = Arrays.copyOf(out, out.length + n);
+            System.arraycopy(batch, 0, out, out.length - n, n);
+        }
+        return out;
+    }
+
+    @Test
+    @DisplayName("Parser handles mixed separators, signs and int32 bounds across tiny buffers")
+    void testParser() throws IOException {
+        String text = "1,-2\n  3;\r\n2147483647\t-2147483648,,0\n-0";
+        int[] expected = {1, -2, 3, Integer.MAX_VALUE, Integer.MIN_VALUE, 0, 0};
+        for (int bufferBytes : new int[]{1, 2, 7, 1 << 20}) {
+            assertArrayEquals(expected, parseAll(text, bufferBytes), "Failed for buffer " + bufferBytes);
+        }
+        assertArrayEquals(new int[0], parseAll("", 4));
+    }
+
+    @Test
+    @DisplayName("Malformed or out-of-range values throw NumberFormatException")
+    void testParserErrors() {
+        assertThrows(NumberFormatException.class, () -> parseAll("2147483648", 16));
+        assertThrows(NumberFormatException.class, () -> parseAll("-2147483649", 16));
+        assertThrows(NumberFormatException.class, () -> parseAll("1,x,2", 16));
+        assertThrows(NumberFormatException.class, () -> parseAll("1,-,2", 16));
+        assertThrows(NumberFormatException.class, () -> parseAll("5-3", 16));
+    }
+
+    @Test
+    @DisplayName("Property: file and stdin-style streams match the array version")
+    void testMatchesArrayVersion() throws IOException {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+        TextStreamMajorityVote algo = new TextStreamMajorityVote(7, new PerformanceTracker());
+
+        for (int trial = 0; trial < 50; trial++) {
+            int size = rand.nextInt(300);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(3) - 1;
+            StringBuilder text = new StringBuilder();
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextBoolean() ? majority : rand.nextInt(3) - 1;
+                text.append(arr[i]).append(rand.nextBoolean() ? "\n" : ",");
+            }
+            byte[] bytes = text.toString().getBytes(StandardCharsets.US_ASCII);
+            Path file = Files.write(tempDir.resolve("ints" + trial + ".txt"), bytes);
+
+            Optional<BoyerMooreMajorityVote.MajorityResult> expected = reference.findMajority(arr);
+            Optional<MappedFileMajorityVote.FileMajorityResult> fromFile = algo.findMajority(file);
+            assertEquals(bytes.length, algo.getBytesRead());
+            assertEquals(size, algo.getElementCount());
+            Optional<MappedFileMajorityVote.FileMajorityResult> fromStream =
+                    algo.findMajority(Channels.newChannel(new ByteArrayInputStream(bytes)));
+
+            for (Optional<MappedFileMajorityVote.FileMajorityResult> actual : Arrays.asList(fromFile, fromStream)) {
+                assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+                if (expected.isPresent()) {
+                    assertEquals(expected.get().getElement(), actual.get().getElement());
+                    assertEquals(expected.get().getCount(), actual.get().getCount());
+                    assertEquals(expected.get().getFirstPosition(), actual.get().getFirstPosition());
+                    assertEquals(expected.get().getLastPosition(), actual.get().getLastPosition());
+                }
+            }
+        }
+    }
+}
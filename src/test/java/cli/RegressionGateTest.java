@@ -0,0 +1,62 @@
+package cli;
+
+import metrics.BenchmarkBaseline;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class RegressionGateTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path write(String name, double... scores) throws Exception {
+        BenchmarkBaseline baseline = new BenchmarkBaseline();
+        for (double score : scores) {
+            baseline.add("RANDOM_WITH_MAJORITY", 1000, "uninstrumented", score);
+        }
+        Path file = tempDir.resolve(name);
+        baseline.save(file);
+        return file;
+    }
+
+    @Test
+    @DisplayName("Stored runs gate on the threshold: exit 1 on regression, 0 otherwise")
+    void testCompareStoredRuns() throws Exception {
+        Path baseline = write("baseline.csv", 100, 101, 99);
+        Path slower = write("slower.csv", 140, 141, 139);
+        Path same = write("same.csv", 100, 102, 99);
+        Path report = tempDir.resolve("diff.md");
+
+        assertEquals(1, RegressionGate.run(new String[]{"compare", baseline.toString(),
+                "--current", slower.toString(), "--report", report.toString()}));
+        assertTrue(Files.readString(report).contains("REGRESSION"));
+        assertEquals(0, RegressionGate.run(new String[]{"compare", baseline.toString(), "--current", same.toString()}));
+        assertEquals(0, RegressionGate.run(new String[]{"compare", baseline.toString(),
+                "--current", slower.toString(), "--threshold", "0.5"}));
+        assertEquals(2, RegressionGate.run(new String[]{"compare", baseline.toString(), "--forks"}));
+    }
+
+    @Test
+    @DisplayName("Recording from a JMH JSON result stores one ns/op score per fork")
+    void testRecordFromJmhJson() throws Exception {
+        Path json = tempDir.resolve("jmh.json");
+        Files.writeString(json, "[{\"benchmark\": \"benchmarks.MajorityVoteBenchmark.parallel\","
+                + " \"mode\": \"avgt\", \"params\": {\"inputType\": \"ALL_SAME\", \"size\": \"100\"},"
+                + " \"primaryMetric\": {\"score\": 1.5, \"scoreUnit\": \"us/op\","
+                + " \"rawData\": [[1.0, 2.0], [1.5, 1.5]]}}]");
+        Path baseline = tempDir.resolve("baseline.csv");
+        assertEquals(0, RegressionGate.run(new String[]{"record", baseline.toString(), "--jmh-json", json.toString()}));
+
+        BenchmarkBaseline loaded = BenchmarkBaseline.load(baseline);
+        assertEquals(1, loaded.size());
+        assertEquals(List.of(1500.0, 1500.0), loaded.getScores(BenchmarkBaseline.key("ALL_SAME", 100, "parallel")));
+        assertEquals(2, RegressionGate.run(new String[]{"record", baseline.toString(),
+                "--jar", tempDir.resolve("missing.jar").toString()}));
+    }
+}
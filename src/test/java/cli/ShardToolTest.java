@@ -0,0 +1,103 @@
+package cli;
+
+import algorithms.BoyerMooreMajorityVote;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+class ShardToolTest {
+
+    @TempDir
+    Path tempDir;
+
+    // Runs ShardTool in its own JVM, like one node of a cluster.
+    private static Process start(String... args) throws IOException {
+        List<String> command = new ArrayList<>();
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(ShardTool.class.getName());
+        command.addAll(Arrays.asList(args));
+        return new ProcessBuilder(command).redirectErrorStream(true).start();
+    }
+
+    private static String await(Process process, int expectedExit) throws Exception {
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        assertEquals(expectedExit, process.waitFor(), output);
+        return output;
+    }
+
+    private Path writeShard(int[] arr, int from, int to, int index) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate((to - from) * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buf.asIntBuffer().put(arr, from, to - from);
+        return Files.write(tempDir.resolve("shard" + index + ".bin"), buf.array());
+    }
+
+    @Test
+    @DisplayName("Shards summarized and counted in separate processes agree with the array version")
+    void testMultiProcessRound() throws Exception {
+        Random rand = new Random(42);
+        int[] arr = new int[100_000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rand.nextInt(10) < 6 ? 7 : rand.nextInt(1000);
+        }
+        int shards = 4;
+
+        List<Process> nodes = new ArrayList<>();
+        List<String> summaries = new ArrayList<>();
+        for (int s = 0; s < shards; s++) {
+            Path shard = writeShard(arr, arr.length * s / shards, arr.length * (s + 1) / shards, s);
+            Path summary = tempDir.resolve("shard" + s + ".summary");
+            summaries.add(summary.toString());
+            nodes.add(start("summarize", shard.toString(), summary.toString(), "16"));
+        }
+        for (Process node : nodes) {
+            await(node, 0);
+        }
+
+        Path global = tempDir.resolve("global.summary");
+        List<String> mergeArgs = new ArrayList<>(Arrays.asList("merge", global.toString()));
+        mergeArgs.addAll(summaries);
+        String merged = await(start(mergeArgs.toArray(new String[0])), 0);
+        assertTrue(merged.startsWith("candidate 7"), merged);
+
+        nodes.clear();
+        List<String> verifyArgs = new ArrayList<>(Arrays.asList("verify", global.toString()));
+        for (int s = 0; s < shards; s++) {
+            Path count = tempDir.resolve("shard" + s + ".count");
+            verifyArgs.add(count.toString());
+            nodes.add(start("count", tempDir.resolve("shard" + s + ".bin").toString(), "7", count.toString()));
+        }
+        for (Process node : nodes) {
+            await(node, 0);
+        }
+
+        Optional<BoyerMooreMajorityVote.MajorityResult> expected = new BoyerMooreMajorityVote().findMajority(arr);
+        assertTrue(expected.isPresent());
+        assertEquals(String.format("majority %d count %d first %d last %d", expected.get().getElement(),
+                        expected.get().getCount(), expected.get().getFirstPosition(), expected.get().getLastPosition()),
+                await(start(verifyArgs.toArray(new String[0])), 0));
+    }
+
+    @Test
+    @DisplayName("Bad arguments and files exit with code 2")
+    void testErrors() throws IOException {
+        assertEquals(2, ShardTool.run(new String[]{"bogus"}));
+        Path notSummary = Files.write(tempDir.resolve("bad.summary"), new byte[]{1, 2, 3});
+        assertEquals(2, ShardTool.run(new String[]{"merge", tempDir.resolve("out").toString(), notSummary.toString()}));
+    }
+}
@@ -0,0 +1,102 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+
+class BenchmarkBaselineTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static BenchmarkBaseline run(Random rand, double mean, double noise, int forks) {
+        BenchmarkBaseline baseline = new BenchmarkBaseline();
+        for (int fork = 0; fork < forks; fork++) {
+            baseline.add("RANDOM_WITH_MAJORITY", 1000, "uninstrumented", mean + noise * rand.nextGaussian());
+        }
+        return baseline;
+    }
+
+    @Test
+    @DisplayName("Baselines round-trip through CSV")
+    void testSaveLoad() throws IOException {
+        BenchmarkBaseline baseline = run(new Random(42), 100, 5, 3);
+        baseline.add("ALL_SAME", 10, "parallel", 12.5);
+        Path file = tempDir.resolve("baseline.csv");
+        baseline.save(file);
+
+        BenchmarkBaseline loaded = BenchmarkBaseline.load(file);
+        assertEquals(2, loaded.size());
+        String key = BenchmarkBaseline.key("RANDOM_WITH_MAJORITY", 1000, "uninstrumented");
+        assertEquals(baseline.getScores(key).size(), loaded.getScores(key).size());
+        assertEquals(baseline.getScores(key).get(0), loaded.getScores(key).get(0), 0.001);
+
+        Files.write(file, "not,a,baseline\n".getBytes());
+        assertThrows(IllegalArgumentException.class, () -> BenchmarkBaseline.load(file));
+    }
+
+    @Test
+    @DisplayName("A clear slowdown beyond the threshold is a regression")
+    void testRegression() {
+        Random rand = new Random(42);
+        List<BenchmarkBaseline.Comparison> result = run(rand, 130, 2, 5).compareTo(run(rand, 100, 2, 5), 0.10);
+        assertEquals(1, result.size());
+        assertTrue(result.get(0).regression);
+        assertEquals(0.30, result.get(0).delta, 0.05);
+        assertTrue(result.get(0).ciLow > 0);
+    }
+
+    @Test
+    @DisplayName("Slowdowns below the threshold or within noise are not regressions")
+    void testNoRegression() {
+        Random rand = new Random(42);
+        assertFalse(run(rand, 105, 1, 5).compareTo(run(rand, 100, 1, 5), 0.10).get(0).regression);
+
+        // 20% apart on average, but the forks are too noisy to be confident.
+        BenchmarkBaseline noisyBefore = new BenchmarkBaseline();
+        BenchmarkBaseline noisyAfter = new BenchmarkBaseline();
+        for (double v : new double[]{60, 140}) {
+            noisyBefore.add("ALL_SAME", 10, "parallel", v);
+        }
+        for (double v : new double[]{70, 170}) {
+            noisyAfter.add("ALL_SAME", 10, "parallel", v);
+        }
+        BenchmarkBaseline.Comparison c = noisyAfter.compareTo(noisyBefore, 0.10).get(0);
+        assertTrue(c.delta > 0.10);
+        assertTrue(c.ciLow < 0);
+        assertFalse(c.regression);
+    }
+
+    @Test
+    @DisplayName("Student-t quantiles approach the normal quantile")
+    void testStudentT() {
+        assertEquals(12.706, BenchmarkBaseline.studentT95(1), 0.001);
+        assertEquals(2.228, BenchmarkBaseline.studentT95(10.5), 0.001);
+        assertEquals(2.042, BenchmarkBaseline.studentT95(30), 0.005);
+        assertEquals(1.960, BenchmarkBaseline.studentT95(Double.POSITIVE_INFINITY), 0.001);
+    }
+
+    @Test
+    @DisplayName("Report lists regressions first")
+    void testReport() throws IOException {
+        Random rand = new Random(42);
+        BenchmarkBaseline before = run(rand, 100, 1, 3);
+        before.add("ALL_SAME", 10, "parallel", 50);
+        BenchmarkBaseline after = run(rand, 150, 1, 3);
+        after.add("ALL_SAME", 10, "parallel", 50);
+
+        Path report = tempDir.resolve("diff.md");
+        BenchmarkBaseline.writeReport(after.compareTo(before, 0.10), 0.10, report);
+        List<String> lines = Files.readAllLines(report);
+        assertTrue(lines.get(2).startsWith("1 of 2 benchmarks regressed"));
+        assertTrue(lines.get(6).contains("REGRESSION"));
+        assertTrue(lines.get(7).contains("| ok |"));
+    }
+}
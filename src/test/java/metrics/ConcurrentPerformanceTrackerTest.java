@@ -0,0 +1,72 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+class ConcurrentPerformanceTrackerTest {
+
+    @Test
+    @DisplayName("Empty histogram reports zero percentiles")
+    void testEmpty() {
+        ConcurrentPerformanceTracker tracker = new ConcurrentPerformanceTracker();
+        assertEquals(0, tracker.getSampleCount());
+        assertEquals(0, tracker.getP99());
+    }
+
+    @Test
+    @DisplayName("Bucket bounds contain their values within 6.25%")
+    void testBucketPrecision() {
+        for (long value = 0; value < 1_000_000; value = value * 3 / 2 + 1) {
+            int index = LatencyHistogram.bucketIndex(value);
+            long upper = LatencyHistogram.bucketUpperBound(index);
+            assertTrue(upper >= value, "Upper bound below value " + value);
+            assertTrue(upper - value <= value / 16, "Bucket too wide for " + value);
+        }
+        assertTrue(LatencyHistogram.bucketIndex(Long.MAX_VALUE) < LatencyHistogram.BUCKETS);
+    }
+
+    @Test
+    @DisplayName("Percentiles over a uniform distribution")
+    void testPercentiles() {
+        ConcurrentPerformanceTracker tracker = new ConcurrentPerformanceTracker();
+        for (int i = 1; i <= 10_000; i++) {
+            tracker.recordLatency(i * 100L);
+        }
+        assertEquals(10_000, tracker.getSampleCount());
+        assertEquals(500_000, tracker.getP50(), 500_000 / 16.0);
+        assertEquals(990_000, tracker.getP99(), 990_000 / 16.0);
+        assertEquals(999_000, tracker.getP999(), 999_000 / 16.0);
+        assertEquals(1_000_000, tracker.getMaxLatency());
+    }
+
+    @Test
+    @DisplayName("Counters and samples from many threads are all merged")
+    void testConcurrentRecording() throws InterruptedException {
+        ConcurrentPerformanceTracker tracker = new ConcurrentPerformanceTracker();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            Thread thread = new Thread(() -> {
+                PerformanceTracker run = new PerformanceTracker();
+                for (int i = 0; i < 10_000; i++) {
+                    run.reset();
+                    run.incrementComparisons(3);
+                    run.incrementArrayAccesses(2);
+                    tracker.record(run);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(80_000, tracker.getSampleCount());
+        assertEquals(240_000, tracker.getComparisons());
+        assertEquals(160_000, tracker.getArrayAccesses());
+    }
+}
@@ -0,0 +1,40 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+class JmhResultsTest {
+
+    private static String run(String benchmark, String unit, String rawData) {
+        return "{\"benchmark\": \"" + benchmark + "\", \"params\": {\"inputType\": \"NO_MAJORITY\", \"size\": \"1000\"},"
+                + " \"primaryMetric\": {\"scoreUnit\": \"" + unit + "\", \"rawData\": " + rawData + "},"
+                + " \"secondaryMetrics\": {}, \"note\": \"esc\\\"aped \\u00e9\", \"flag\": true, \"none\": null}";
+    }
+
+    @Test
+    @DisplayName("Each fork's iterations are averaged and converted to ns/op")
+    void testPerForkScores() {
+        BenchmarkBaseline baseline = JmhResults.parse("[" + run("b.MajorityVoteBenchmark.uninstrumented", "us/op",
+                "[[2.0, 4.0], [3.0, 3.0], [1e0, 5.0]]") + ", "
+                + run("b.MajorityVoteBenchmark.instrumented", "ns/op", "[[10.5]]") + "]");
+
+        assertEquals(List.of(3000.0, 3000.0, 3000.0),
+                baseline.getScores(BenchmarkBaseline.key("NO_MAJORITY", 1000, "uninstrumented")));
+        assertEquals(List.of(10.5), baseline.getScores(BenchmarkBaseline.key("NO_MAJORITY", 1000, "instrumented")));
+    }
+
+    @Test
+    @DisplayName("Throughput units, missing scores and malformed JSON are rejected")
+    void testRejectsBadInput() {
+        assertThrows(IllegalArgumentException.class,
+                () -> JmhResults.parse("[" + run("b.X.y", "ops/us", "[[1.0]]") + "]"));
+        assertThrows(IllegalArgumentException.class,
+                () -> JmhResults.parse("[" + run("b.X.y", "ns/op", "[[\"NaN\"]]") + "]"));
+        assertThrows(IllegalArgumentException.class, () -> JmhResults.parse("[" + run("b.X.y", "ns/op", "[[1.0]")));
+        assertThrows(IllegalArgumentException.class, () -> JmhResults.parse("{}"));
+        assertEquals(0, JmhResults.parse(" [ ] ").size());
+    }
+}
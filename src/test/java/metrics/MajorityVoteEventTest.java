@@ -0,0 +1,121 @@
+package metrics;
+
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.ParallelBoyerMooreMajorityVote;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+class MajorityVoteEventTest {
+
+    @TempDir
+    Path tempDir;
+
+    private List<RecordedEvent> record(Runnable work) throws Exception {
+        Path file = tempDir.resolve("majority.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MajorityVoteEvent.class).withoutThreshold();
+            recording.enable(MajorityPhaseEvent.class).withoutThreshold();
+            recording.enable(MajorityChunkEvent.class).withoutThreshold();
+            recording.start();
+            work.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file);
+    }
+
+    private static List<RecordedEvent> ofType(List<RecordedEvent> events, String name) {
+        return events.stream().filter(e -> e.getEventType().getName().equals(name)).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Events are null while no recording enables them")
+    void testDisabledByDefault() {
+        assertNull(MajorityVoteEvent.beginIfEnabled());
+        assertNull(MajorityPhaseEvent.beginIfEnabled());
+        assertNull(MajorityChunkEvent.beginIfEnabled());
+    }
+
+    @Test
+    @DisplayName("Sequential calls record the call and both phases with counters")
+    void testSequentialEvents() throws Exception {
+        int[] arr = {3, 1, 3, 3, 2, 3};
+        List<RecordedEvent> events = record(() -> new BoyerMooreMajorityVote().findMajority(arr));
+
+        List<RecordedEvent> calls = ofType(events, "boyermoore.MajorityVote");
+        assertEquals(1, calls.size());
+        RecordedEvent call = calls.get(0);
+        assertEquals(6, call.getLong("inputSize"));
+        assertEquals("instrumented", call.getString("mode"));
+        assertTrue(call.getBoolean("majorityFound"));
+        assertEquals(3, call.getInt("element"));
+        assertEquals(4, call.getLong("count"));
+        assertEquals(12, call.getLong("arrayAccesses"));
+
+        List<String> phases = ofType(events, "boyermoore.MajorityPhase").stream()
+                .map(e -> e.getString("phase")).collect(Collectors.toList());
+        assertEquals(List.of(MajorityPhaseEvent.CANDIDATE, MajorityPhaseEvent.VERIFICATION), phases);
+    }
+
+    @Test
+    @DisplayName("Early-exit and buffer calls record both phases under their own mode")
+    void testEarlyExitAndBufferPhases() throws Exception {
+        int[] arr = {3, 1, 3, 3, 2, 3};
+        BoyerMooreMajorityVote algorithm = new BoyerMooreMajorityVote();
+        List<RecordedEvent> events = record(() -> {
+            algorithm.findMajorityEarlyExit(arr);
+            algorithm.findMajority(IntBuffer.wrap(arr));
+            algorithm.findMajority(IntBuffer.wrap(arr).asReadOnlyBuffer());
+            algorithm.findMajority(ByteBuffer.allocateDirect(arr.length * Integer.BYTES));
+        });
+
+        List<String> phases = ofType(events, "boyermoore.MajorityPhase").stream()
+                .map(e -> e.getString("mode") + ":" + e.getString("phase")).collect(Collectors.toList());
+        String earlyCandidate = "early-exit:" + MajorityPhaseEvent.CANDIDATE;
+        String earlyVerification = "early-exit:" + MajorityPhaseEvent.VERIFICATION;
+        String bufferCandidate = "buffer:" + MajorityPhaseEvent.CANDIDATE;
+        String bufferVerification = "buffer:" + MajorityPhaseEvent.VERIFICATION;
+        assertEquals(List.of(earlyCandidate, earlyVerification,
+                bufferCandidate, bufferVerification,
+                bufferCandidate, bufferVerification,
+                bufferCandidate, bufferVerification), phases);
+    }
+
+    @Test
+    @DisplayName("Parallel calls record one chunk event per leaf task")
+    void testParallelChunkEvents() throws Exception {
+        int[] arr = new int[1000];
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            List<RecordedEvent> events = record(
+                    () -> new ParallelBoyerMooreMajorityVote(pool, 100).findMajority(arr));
+
+            RecordedEvent call = ofType(events, "boyermoore.MajorityVote").get(0);
+            assertEquals("parallel", call.getString("mode"));
+            assertEquals(1000, call.getLong("count"));
+
+            List<RecordedEvent> chunks = ofType(events, "boyermoore.MajorityChunk");
+            long candidateChunks = chunks.stream()
+                    .filter(e -> e.getString("phase").equals(MajorityPhaseEvent.CANDIDATE)).count();
+            assertTrue(candidateChunks >= 10);
+            assertEquals(2 * candidateChunks, chunks.size());
+            assertEquals(1000, chunks.stream()
+                    .filter(e -> e.getString("phase").equals(MajorityPhaseEvent.VERIFICATION))
+                    .mapToLong(e -> e.getLong("count")).sum());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package metrics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+class MetricsExporterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("Tracker keeps only the newest snapshots once full")
+    void testBoundedSnapshots() {
+        PerformanceTracker tracker = new PerformanceTracker(3);
+        for (int size = 1; size <= 5; size++) {
+            tracker.saveSnapshot(size);
+        }
+        List<PerformanceTracker.MetricsSnapshot> snapshots = tracker.getSnapshots();
+        assertEquals(3, snapshots.size());
+        assertEquals(3, snapshots.get(0).arraySize);
+        assertEquals(5, snapshots.get(2).arraySize);
+    }
+
+    @Test
+    @DisplayName("Buffer grows past its initial slots and wraps at the capacity")
+    void testGrowingBuffer() {
+        int capacity = 5 * SnapshotRingBuffer.INITIAL_SLOTS / 2;
+        PerformanceTracker tracker = new PerformanceTracker(capacity);
+        for (int size = 1; size <= 3 * capacity; size++) {
+            tracker.saveSnapshot(size);
+            List<PerformanceTracker.MetricsSnapshot> snapshots = tracker.getSnapshots();
+            assertEquals(Math.min(size, capacity), snapshots.size());
+            for (int i = 0; i < snapshots.size(); i++) {
+                assertEquals(size - snapshots.size() + 1 + i, snapshots.get(i).arraySize);
+            }
+        }
+        assertEquals(capacity, tracker.getSnapshotBuffer().getCapacity());
+    }
+
+    @Test
+    @DisplayName("Export writes new snapshots as JSON lines and a Prometheus file")
+    void testExport() throws IOException {
+        PerformanceTracker tracker = new PerformanceTracker(3);
+        Path json = tempDir.resolve("metrics.jsonl");
+        Path prom = tempDir.resolve("metrics.prom");
+
+        try (MetricsExporter exporter = new MetricsExporter(tracker.getSnapshotBuffer(), json, prom, 60_000)) {
+            tracker.incrementComparisons(-7);
+            tracker.saveSnapshot(10);
+            exporter.exportNow();
+
+            for (int size = 1; size <= 5; size++) {
+                tracker.incrementComparisons(1_000_000_007L);
+                tracker.saveSnapshot(size);
+            }
+            exporter.exportNow();
+
+            assertEquals(4, exporter.getExportedCount());
+            assertEquals(2, exporter.getDroppedCount());
+        }
+
+        List<String> lines = Files.readAllLines(json);
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"arraySize\":10,\"comparisons\":-7,"), lines.get(0));
+        assertTrue(lines.get(3).contains("\"comparisons\":5000000028,"), lines.get(3));
+
+        String text = Files.readString(prom);
+        assertTrue(text.contains("majority_snapshots_total 4\n"), text);
+        assertTrue(text.contains("majority_snapshots_dropped_total 2\n"), text);
+        assertTrue(text.contains("majority_array_size 5\n"), text);
+    }
+
+    @Test
+    @DisplayName("Property: with a producer wrapping the buffer, every snapshot is exported or counted as dropped")
+    void testConcurrentWrapAccounting() throws Exception {
+        SnapshotRingBuffer buffer = new SnapshotRingBuffer(4);
+        int total = 200_000;
+        try (MetricsExporter exporter = new MetricsExporter(buffer, null, null, 60_000)) {
+            Thread producer = new Thread(() -> {
+                for (int i = 0; i < total; i++) {
+                    buffer.add(new PerformanceTracker.MetricsSnapshot(i, 0, 0, 0, 0, 0));
+                }
+            });
+            producer.start();
+            while (producer.isAlive()) {
+                exporter.exportNow();
+            }
+            producer.join();
+            exporter.exportNow();
+
+            assertEquals(total, exporter.getExportedCount() + exporter.getDroppedCount());
+        }
+    }
+
+    @Test
+    @DisplayName("Starting an exporter twice is rejected")
+    void testStartTwice() throws IOException {
+        try (MetricsExporter exporter = new MetricsExporter(new SnapshotRingBuffer(2), null, null, 60_000)) {
+            exporter.start();
+            assertThrows(IllegalStateException.class, exporter::start);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package benchmarks;
+
+import algorithms.BoyerMooreMajorityVote;
+import algorithms.MajorityKernels;
+import algorithms.MutableMajorityResult;
+import algorithms.VectorMajorityKernels;
+import cli.BenchmarkRunner;
+import cli.BenchmarkRunner.InputType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Scalar {@link MajorityKernels} against {@link VectorMajorityKernels} per InputType: the
+ * count and vote passes on their own, and the whole uninstrumented findMajority with each
+ * kernel set. Built only with both profiles:
+ *
+ * <pre>
+ * mvn -Pjmh,vector package -DskipTests
+ * java --add-modules jdk.incubator.vector -jar target/benchmarks.jar VectorKernelBenchmark
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "--add-modules", "jdk.incubator.vector"})
+@State(Scope.Benchmark)
+public class VectorKernelBenchmark {
+
+    @Param
+    public InputType inputType;
+
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    private int[] input;
+    private int candidate;
+    private final MutableMajorityResult holder = new MutableMajorityResult();
+    private BoyerMooreMajorityVote scalarVerify;
+    private BoyerMooreMajorityVote vectorVerify;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        input = BenchmarkRunner.generateInput(size, inputType);
+        candidate = MajorityKernels.voteCandidate(MajorityKernels.vote(input, 0, input.length));
+        scalarVerify = BoyerMooreMajorityVote.uninstrumented(MajorityKernels.SCALAR);
+        vectorVerify = BoyerMooreMajorityVote.uninstrumented(VectorMajorityKernels.KERNELS);
+    }
+
+    @Benchmark
+    public int scalarCount() {
+        return MajorityKernels.countOccurrences(input, 0, input.length, candidate);
+    }
+
+    @Benchmark
+    public int vectorCount() {
+        return VectorMajorityKernels.countOccurrences(input, 0, input.length, candidate);
+    }
+
+    @Benchmark
+    public long scalarVote() {
+        return MajorityKernels.vote(input, 0, input.length);
+    }
+
+    @Benchmark
+    public long vectorVote() {
+        return VectorMajorityKernels.vote(input, 0, input.length);
+    }
+
+    @Benchmark
+    public boolean scalarFindMajority() {
+        return scalarVerify.findMajority(input, holder);
+    }
+
+    @Benchmark
+    public boolean vectorFindMajority() {
+        return vectorVerify.findMajority(input, holder);
+    }
+}
@@ -0,0 +1,74 @@
+package algorithms;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Random;
+
+class VectorMajorityKernelsTest {
+
+    @Test
+    @DisplayName("Empty array has no majority")
+    void testEmptyArray() {
+        assertFalse(VectorMajorityKernels.findMajority(new int[0], new MutableMajorityResult()));
+    }
+
+    @Test
+    @DisplayName("Count matches scalar kernel on unaligned ranges")
+    void testCountMatchesScalar() {
+        Random rand = new Random(42);
+        int[] arr = new int[1000];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = rand.nextInt(4);
+        }
+        for (int from = 0; from < 40; from += 3) {
+            for (int to = from; to <= arr.length; to += 37) {
+                assertEquals(MajorityKernels.countOccurrences(arr, from, to, 2),
+                        VectorMajorityKernels.countOccurrences(arr, from, to, 2));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Property: vector kernels match the scalar algorithm")
+    void testMatchesScalar() {
+        Random rand = new Random(42);
+        BoyerMooreMajorityVote reference = new BoyerMooreMajorityVote();
+        MutableMajorityResult expected = new MutableMajorityResult();
+        MutableMajorityResult actual = new MutableMajorityResult();
+
+        for (int trial = 0; trial < 500; trial++) {
+            int size = 1 + rand.nextInt(300);
+            int[] arr = new int[size];
+            int majority = rand.nextInt(3);
+            for (int i = 0; i < size; i++) {
+                arr[i] = rand.nextBoolean() ? majority : rand.nextInt(3);
+            }
+
+            reference.findMajority(arr, expected);
+            VectorMajorityKernels.findMajority(arr, actual);
+
+            assertEquals(expected.isPresent(), actual.isPresent(), "Failed for trial " + trial);
+            if (expected.isPresent()) {
+                assertEquals(expected.getElement(), actual.getElement());
+                assertEquals(expected.getCount(), actual.getCount());
+                assertEquals(expected.getFirstPosition(), actual.getFirstPosition());
+                assertEquals(expected.getLastPosition(), actual.getLastPosition());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Verify path selects the vector kernels by name")
+    void testSelectedByName() {
+        assertSame(VectorMajorityKernels.KERNELS, MajorityKernels.byName("vector"));
+        BoyerMooreMajorityVote vector = BoyerMooreMajorityVote.uninstrumented(MajorityKernels.byName("vector"));
+        MutableMajorityResult out = new MutableMajorityResult();
+
+        assertTrue(vector.findMajority(new int[]{3, 1, 3, 3, 2, 3, 3, 3, 1, 3, 3}, out));
+        assertEquals(3, out.getElement());
+        assertEquals(8, out.getCount());
+        assertFalse(vector.findMajority(new int[]{1, 2, 3, 1, 2, 3, 1, 2, 3, 1, 2}, out));
+    }
+}
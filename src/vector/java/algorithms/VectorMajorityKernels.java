@@ -0,0 +1,106 @@
+package algorithms;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+
+/**
+ * SIMD versions of the {@link MajorityKernels} passes on {@code jdk.incubator.vector}.
+ * Only compiled by the {@code vector} Maven profile (JDK 17+); the default Java 11 build
+ * keeps the scalar kernels.
+ *
+ * <p>The voting pass runs one independent Boyer-Moore vote per lane (lane j sees every
+ * VLENGTH-th element) and merges the lane states at the end. Merging votes is valid for
+ * the same reason the parallel mode is: a majority element survives any cancellation of
+ * distinct pairs, and the verification pass is exact regardless.
+ */
+public final class VectorMajorityKernels {
+
+    private static final VectorSpecies<Integer> SPECIES = IntVector.SPECIES_PREFERRED;
+
+    // Looked up by MajorityKernels.byName("vector"), e.g. via -Dmajority.kernels=vector.
+    public static final VoteKernels KERNELS = new VoteKernels() {
+        @Override
+        public long vote(int[] arr, int from, int to) {
+            return VectorMajorityKernels.vote(arr, from, to);
+        }
+
+        @Override
+        public int countOccurrences(int[] arr, int from, int to, int value) {
+            return VectorMajorityKernels.countOccurrences(arr, from, to, value);
+        }
+    };
+
+    private VectorMajorityKernels() {
+    }
+
+    public static long vote(int[] arr, int from, int to) {
+        int lanes = SPECIES.length();
+        int upper = from + SPECIES.loopBound(to - from);
+
+        long vote = MajorityKernels.packVote(arr[from], 0);
+        if (upper > from) {
+            IntVector candidates = IntVector.fromArray(SPECIES, arr, from);
+            IntVector counts = IntVector.zero(SPECIES);
+
+            for (int i = from; i < upper; i += lanes) {
+                IntVector values = IntVector.fromArray(SPECIES, arr, i);
+                candidates = candidates.blend(values, counts.eq(0));
+                VectorMask<Integer> match = values.eq(candidates);
+                counts = counts.add(1, match).sub(1, match.not());
+            }
+
+            for (int lane = 0; lane < lanes; lane++) {
+                vote = MajorityKernels.mergeVotes(vote,
+                        MajorityKernels.packVote(candidates.lane(lane), counts.lane(lane)));
+            }
+        }
+
+        // Scalar tail, folded in as a separate state so lane merging stays symmetric.
+        if (upper < to) {
+            vote = MajorityKernels.mergeVotes(vote, MajorityKernels.vote(arr, upper, to));
+        }
+        return vote;
+    }
+
+    public static int countOccurrences(int[] arr, int from, int to, int value) {
+        int lanes = SPECIES.length();
+        int upper = from + SPECIES.loopBound(to - from);
+
+        // Per-lane masked adds; one horizontal reduction at the end instead of trueCount() per block.
+        IntVector counts = IntVector.zero(SPECIES);
+        for (int i = from; i < upper; i += lanes) {
+            VectorMask<Integer> match = IntVector.fromArray(SPECIES, arr, i).eq(value);
+            counts = counts.add(1, match);
+        }
+
+        int count = counts.reduceLanes(VectorOperators.ADD);
+        for (int i = upper; i < to; i++) {
+            if (arr[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public static boolean findMajority(int[] arr, MutableMajorityResult out) {
+        if (arr == null) {
+            throw new IllegalArgumentException("Array cannot be null");
+        }
+        out.clear();
+        if (arr.length == 0) {
+            return false;
+        }
+
+        int candidate = MajorityKernels.voteCandidate(vote(arr, 0, arr.length));
+        int count = countOccurrences(arr, 0, arr.length, candidate);
+        if (count > arr.length / 2) {
+            out.set(candidate, count,
+                    MajorityKernels.indexOf(arr, 0, arr.length, candidate),
+                    MajorityKernels.lastIndexOf(arr, 0, arr.length, candidate));
+        }
+        return out.isPresent();
+    }
+}